@@ -0,0 +1,116 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.config.adminlog.AdminLogDispatcher;
+import org.example.expert.config.adminlog.AdminLogEvent;
+import org.example.expert.config.adminlog.AdminLogPayloadWriter;
+import org.example.expert.config.adminlog.OverflowPolicy;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 관리자 API 한 건을 로깅할 때 요청 스레드가 부담하는 비용.
+ * <p>
+ * syncSerialize 는 기존처럼 인자와 반환값을 요청 스레드에서 직렬화하고, asyncPublish 는 이벤트를 버퍼에 넣기만 한다.
+ * 소비 스레드는 같은 직렬화를 하지만 요청 지연 시간에는 포함되지 않는다.
+ * <p>
+ * fullLargePayload / boundedLargePayload 는 댓글 1만 건짜리 응답을 통째로 직렬화할 때와
+ * {@link AdminLogPayloadWriter} 로 2KB 까지만 쓸 때의 소비 스레드 비용을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AdminApiLoggingAspectBenchmark {
+
+    private ObjectMapper objectMapper;
+    private AdminLogDispatcher dispatcher;
+    private Object[] args;
+    private CommentResponse response;
+    private List<CommentResponse> largeResponse;
+    private AdminLogPayloadWriter payloadWriter;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        args = new Object[]{1L, new UserRoleChangeRequest("ADMIN")};
+        response = new CommentResponse(1L, "comment contents", new UserResponse(1L, "user@example.com"),
+                LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        largeResponse = new ArrayList<>();
+        for (long i = 0; i < 10_000; i++) {
+            largeResponse.add(new CommentResponse(i, "comment contents " + i, new UserResponse(i, "user" + i + "@example.com"),
+                    LocalDateTime.of(2024, 1, 1, 0, 0)));
+        }
+        payloadWriter = new AdminLogPayloadWriter(objectMapper, 2048, new String[]{"password"});
+
+        // 소비 스레드가 로그 출력 대신 직렬화만 하도록 해 버퍼가 밀리지 않는 실제 상황과 비슷하게 맞춘다.
+        dispatcher = new AdminLogDispatcher(8192, OverflowPolicy.DROP, 256, Duration.ofMillis(1),
+                List.of(batch -> batch.forEach(this::serialize)), new SimpleMeterRegistry());
+        dispatcher.start();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public void syncSerialize(Blackhole blackhole) throws Exception {
+        StringBuilder requestBody = new StringBuilder();
+        for (Object arg : args) {
+            if (!requestBody.isEmpty()) {
+                requestBody.append(", ");
+            }
+            requestBody.append(objectMapper.writeValueAsString(arg));
+        }
+        blackhole.consume(requestBody.toString());
+        blackhole.consume(objectMapper.writeValueAsString(response));
+    }
+
+    @Benchmark
+    public boolean asyncPublish() {
+        return dispatcher.publish(new AdminLogEvent("changeUserRole", 1L, "/admin/users/1",
+                System.currentTimeMillis(), 0L, args, response, null));
+    }
+
+    @Benchmark
+    public String fullLargePayload() throws Exception {
+        return objectMapper.writeValueAsString(largeResponse);
+    }
+
+    @Benchmark
+    public String boundedLargePayload() {
+        return payloadWriter.write(largeResponse);
+    }
+
+    private void serialize(AdminLogEvent event) {
+        try {
+            objectMapper.writeValueAsString(event.getArgs());
+            objectMapper.writeValueAsString(event.getResult());
+        } catch (Exception ignored) {
+            // 벤치마크용
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 현재 장비에서 BCrypt cost 별 해싱 지연 시간을 출력한다.
+ * password.bcrypt.cost / target-latency-ms 를 정할 때 참고한다.
+ *
+ * ./gradlew jmh -Pjmh.includes=BCryptCostBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class BCryptCostBenchmark {
+
+    @Param({"4", "6", "8", "10", "12", "14"})
+    private int cost;
+
+    private final char[] password = "Password1234".toCharArray();
+
+    @Benchmark
+    public byte[] hash() {
+        return BCrypt.withDefaults().hash(cost, password);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.domain.common.exception.BusinessException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 4xx 에러 경로 비용: 도메인 예외 발생 → 호출 스택을 거슬러 전파 → GlobalExceptionHandler 응답 생성.
+ * <p>
+ * stackDepth 는 예외가 발생하는 지점까지의 호출 깊이로, 실제 요청에서는 서블릿 필터 / Spring MVC / 프록시 계층 때문에
+ * 100 프레임을 넘는 경우가 많다. stackTrace=false 가 {@code exception.stack-trace.enabled=false} 설정에 해당한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BusinessExceptionBenchmark {
+
+    @Param({"true", "false"})
+    private boolean stackTrace;
+
+    @Param({"10", "100"})
+    private int stackDepth;
+
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        BusinessException.setStackTraceEnabled(stackTrace);
+        handler = new GlobalExceptionHandler(new ErrorResponseCatalog(new ObjectMapper(), 100));
+    }
+
+    // 잘못된 권한 문자열 → InvalidRequestException → 400 응답
+    @Benchmark
+    public ResponseEntity<byte[]> invalidUserRole() {
+        try {
+            role(stackDepth);
+            return ResponseEntity.ok(new byte[0]);
+        } catch (InvalidRequestException e) {
+            return handler.invalidRequestExceptionException(e);
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static UserRole role(int depth) {
+        if (depth > 0) {
+            return role(depth - 1);
+        }
+        return UserRole.of("INVALID");
+    }
+}
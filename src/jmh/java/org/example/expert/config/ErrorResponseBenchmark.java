@@ -0,0 +1,179 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 인증 헤더 없는 요청을 내장 Tomcat 의 필터 체인에 보내 초당 몇 건을 거절하는지 측정하는 부하 테스트. (ops/s = 거부 응답/초)
+ * <p>
+ * filter=legacy 는 요청마다 Map 을 만들고 Jackson 으로 직렬화하던 기존 JwtFilter, filter=jwtFilter 는 현재
+ * {@link JwtFilter} ({@link ErrorResponseCatalog} 사용) 다. 요청은 스레드마다 keep-alive 연결을 쓰는 HttpClient 로
+ * 루프백에 보내므로 HTTP 파싱, 소켓 I/O, 클라이언트 비용이 함께 측정된다. 로그 출력은 src/jmh/resources/logback.xml 로 끈다.
+ * 기본으로 사용 가능한 CPU 수만큼 클라이언트 스레드를 띄우며, {@code -t} 옵션으로 바꿀 수 있다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(Threads.MAX)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ErrorResponseBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        @Param({"legacy", "jwtFilter"})
+        private String filter;
+
+        private Tomcat tomcat;
+        private String url;
+
+        @Setup(Level.Trial)
+        public void start() throws Exception {
+            tomcat = new Tomcat();
+            tomcat.setBaseDir(Files.createTempDirectory("error-response-benchmark").toString());
+            tomcat.setPort(0);
+            tomcat.getConnector();
+
+            Context context = tomcat.addContext("", null);
+            FilterDef filterDef = new FilterDef();
+            filterDef.setFilterName("auth");
+            filterDef.setFilter(filter.equals("legacy") ? new LegacyJwtFilter() : jwtFilter());
+            context.addFilterDef(filterDef);
+            FilterMap filterMap = new FilterMap();
+            filterMap.setFilterName("auth");
+            filterMap.addURLPattern("/*");
+            context.addFilterMap(filterMap);
+            Tomcat.addServlet(context, "todos", new TodoStubServlet());
+            context.addServletMappingDecoded("/*", "todos");
+
+            tomcat.start();
+            url = "http://localhost:" + tomcat.getConnector().getLocalPort() + "/todos";
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() throws LifecycleException {
+            tomcat.stop();
+            tomcat.destroy();
+        }
+
+        private static Filter jwtFilter() {
+            RoutePolicyRegistry routePolicyRegistry = new RoutePolicyRegistry(RoutePolicyTable.builder()
+                    .register("/auth/**", List.of(), AccessLevel.PUBLIC)
+                    .floor("/admin", AccessLevel.ADMIN)
+                    .build());
+            // 헤더가 없는 요청은 토큰 검증과 무효화 확인 전에 거절되므로 JwtUtil / TokenRevocationStore 는 필요 없다.
+            return new JwtFilter(null, new JwtTokenCache(1000), null, routePolicyRegistry,
+                    new ErrorResponseCatalog(OBJECT_MAPPER, 1000));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private CloseableHttpClient httpClient;
+
+        @Setup(Level.Trial)
+        public void open() {
+            httpClient = HttpClients.createDefault();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            httpClient.close();
+        }
+    }
+
+    @Benchmark
+    public int rejectUnauthenticated(Server server, Client client) throws IOException {
+        return client.httpClient.execute(new HttpGet(server.url), response -> {
+            EntityUtils.consume(response.getEntity());
+            return response.getCode();
+        });
+    }
+
+    // 기존 JwtFilter 의 경로 판단과 헤더 누락 처리
+    private static final class LegacyJwtFilter extends OncePerRequestFilter {
+
+        private static final Logger log = LoggerFactory.getLogger(LegacyJwtFilter.class);
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            String url = request.getRequestURI();
+            if (url.startsWith("/auth")) {
+                chain.doFilter(request, response);
+                return;
+            }
+            if (request.getHeader("Authorization") == null) {
+                log.warn("인증 헤더 누락: URI={}", url);
+                sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+                return;
+            }
+            chain.doFilter(request, response);
+        }
+
+        private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message)
+                throws IOException {
+            response.setStatus(status.value());
+            response.setContentType("application/json;charset=UTF-8");
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("status", status.name());
+            errorResponse.put("code", status.value());
+            errorResponse.put("message", message);
+
+            response.getWriter().write(OBJECT_MAPPER.writeValueAsString(errorResponse));
+        }
+    }
+
+    private static final class TodoStubServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            response.setContentType("application/json");
+            response.getWriter().write("[]");
+        }
+    }
+}
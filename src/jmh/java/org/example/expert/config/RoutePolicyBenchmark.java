@@ -0,0 +1,79 @@
+package org.example.expert.config;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JwtFilter 의 경로별 접근 수준 판단 비용 비교.
+ * <p>
+ * legacyPrefixChecks 는 기존 startsWith 분기, routePolicyTable 은 컨트롤러 매핑과 같은 패턴으로 만든 테이블 조회다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RoutePolicyBenchmark {
+
+    @Param({"POST /auth/signin", "GET /todos/1/comments", "PATCH /admin/users/1", "GET /actuator/health"})
+    private String request;
+
+    private String method;
+    private String path;
+    private RoutePolicyTable table;
+
+    @Setup
+    public void setUp() {
+        int space = request.indexOf(' ');
+        method = request.substring(0, space);
+        path = request.substring(space + 1);
+
+        table = RoutePolicyTable.builder()
+                .register("/auth/signup", List.of("POST"), AccessLevel.PUBLIC)
+                .register("/auth/signin", List.of("POST"), AccessLevel.PUBLIC)
+                .register("/auth/refresh", List.of("POST"), AccessLevel.PUBLIC)
+                .register("/auth/signout", List.of("POST"), AccessLevel.AUTHENTICATED)
+                .register("/todos", List.of("GET", "POST"), AccessLevel.AUTHENTICATED)
+                .register("/todos/{todoId}", List.of("GET"), AccessLevel.AUTHENTICATED)
+                .register("/todos/{todoId}/comments", List.of("GET", "POST"), AccessLevel.AUTHENTICATED)
+                .register("/todos/{todoId}/managers", List.of("GET", "POST"), AccessLevel.AUTHENTICATED)
+                .register("/todos/{todoId}/managers/{managerId}", List.of("DELETE"), AccessLevel.AUTHENTICATED)
+                .register("/users/{userId}", List.of("GET"), AccessLevel.AUTHENTICATED)
+                .register("/users", List.of("PUT"), AccessLevel.AUTHENTICATED)
+                .register("/admin/users/{userId}", List.of("PATCH"), AccessLevel.ADMIN)
+                .register("/admin/comments/{commentId}", List.of("DELETE"), AccessLevel.ADMIN)
+                .override("/actuator/health", AccessLevel.PUBLIC)
+                .override("/actuator/health/**", AccessLevel.PUBLIC)
+                .build();
+    }
+
+    // 기존 JwtFilter 의 판단 (HTTP 메서드와 액추에이터 공개 경로는 표현할 수 없다)
+    @Benchmark
+    public AccessLevel legacyPrefixChecks() {
+        if (path.startsWith("/auth")) {
+            return AccessLevel.PUBLIC;
+        }
+        if (path.startsWith("/admin")) {
+            return AccessLevel.ADMIN;
+        }
+        return AccessLevel.AUTHENTICATED;
+    }
+
+    @Benchmark
+    public AccessLevel routePolicyTable() {
+        return table.resolve(method, path);
+    }
+}
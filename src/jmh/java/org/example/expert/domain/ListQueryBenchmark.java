@@ -0,0 +1,185 @@
+package org.example.expert.domain;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 목록 API 의 요청당 힙 할당량 비교 (엔티티 조회 후 DTO 변환 vs DTO 프로젝션).
+ * 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 확인한다.
+ *
+ * ./gradlew jmh -Pjmh.includes=ListQueryBenchmark -Pjmh.args="-prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ListQueryBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int CHILDREN_PER_TODO = 10;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private TodoService todoService;
+    private CommentService commentService;
+    private ManagerService managerService;
+    private long todoId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.properties.hibernate.show_sql=false",
+                        "--logging.level.root=WARN"
+                );
+        entityManager = context.getBean(EntityManager.class);
+        todoService = context.getBean(TodoService.class);
+        commentService = context.getBean(CommentService.class);
+        managerService = context.getBean(ManagerService.class);
+
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        todoId = transaction.execute(status -> {
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < CHILDREN_PER_TODO; i++) {
+                User user = new User("user" + i + "@example.com", "$2a$10$" + "x".repeat(53), UserRole.USER);
+                entityManager.persist(user);
+                users.add(user);
+            }
+            Todo first = null;
+            for (int i = 0; i < PAGE_SIZE * 2; i++) {
+                Todo todo = new Todo("title" + i, "contents" + i, "Sunny", users.get(i % users.size()));
+                entityManager.persist(todo);
+                if (first == null) {
+                    first = todo;
+                }
+            }
+            for (int i = 0; i < CHILDREN_PER_TODO; i++) {
+                entityManager.persist(new Comment("comment" + i, users.get(i), first));
+                entityManager.persist(new Manager(users.get(i), first));
+            }
+            return first.getId();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 기존 방식: Todo + User 엔티티를 영속성 컨텍스트에 올린 뒤 DTO 로 변환
+    @Benchmark
+    public Page<TodoResponse> getTodos_Entity() {
+        return readOnlyTransaction.execute(status -> {
+            List<Todo> todos = entityManager.createQuery(
+                            "SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.modifiedAt DESC", Todo.class)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+            Long total = entityManager.createQuery("SELECT COUNT(t) FROM Todo t", Long.class).getSingleResult();
+
+            List<TodoResponse> content = new ArrayList<>();
+            for (Todo todo : todos) {
+                User user = todo.getUser();
+                content.add(new TodoResponse(todo.getId(), todo.getTitle(), todo.getContents(), todo.getWeather(),
+                        new UserResponse(user.getId(), user.getEmail()), todo.getCreatedAt(), todo.getModifiedAt()));
+            }
+            return new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), total);
+        });
+    }
+
+    @Benchmark
+    public Page<TodoResponse> getTodos_Projection() {
+        return todoService.getTodos(1, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<CommentResponse> getComments_Entity() {
+        return readOnlyTransaction.execute(status -> {
+            List<Comment> comments = entityManager.createQuery(
+                            "SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId", Comment.class)
+                    .setParameter("todoId", todoId)
+                    .getResultList();
+
+            List<CommentResponse> content = new ArrayList<>();
+            for (Comment comment : comments) {
+                User user = comment.getUser();
+                content.add(new CommentResponse(comment.getId(), comment.getContents(),
+                        new UserResponse(user.getId(), user.getEmail()), comment.getCreatedAt()));
+            }
+            return content;
+        });
+    }
+
+    @Benchmark
+    public List<CommentResponse> getComments_Projection() {
+        return commentService.getComments(todoId);
+    }
+
+    @Benchmark
+    public List<ManagerResponse> getManagers_Entity() {
+        return readOnlyTransaction.execute(status -> {
+            entityManager.find(Todo.class, todoId);
+            List<Manager> managers = entityManager.createQuery(
+                            "SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId", Manager.class)
+                    .setParameter("todoId", todoId)
+                    .getResultList();
+
+            List<ManagerResponse> content = new ArrayList<>();
+            for (Manager manager : managers) {
+                User user = manager.getUser();
+                content.add(new ManagerResponse(manager.getId(), new UserResponse(user.getId(), user.getEmail())));
+            }
+            return content;
+        });
+    }
+
+    @Benchmark
+    public List<ManagerResponse> getManagers_Projection() {
+        return managerService.getManagers(todoId);
+    }
+}
@@ -8,4 +8,10 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface LogAdmin {
+
+    /**
+     * 성공한 호출을 애플리케이션 로그에 남길 비율 (0.0 ~ 1.0). 실패한 호출은 항상 남긴다.
+     * 감사 기록(admin_audit, 세그먼트 파일)에는 비율과 관계없이 모든 호출이 남는다.
+     */
+    double sampleRate() default 1.0;
 }
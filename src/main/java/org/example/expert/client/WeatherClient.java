@@ -1,24 +1,109 @@
 package org.example.expert.client;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+    private static final Duration RETRY_BACKOFF = Duration.ofMinutes(1);
+    // 캐시가 비어 있을 때의 실패는 요청 자체가 실패하므로 짧게만 재시도를 미룬다.
+    private static final Duration COLD_RETRY_BACKOFF = Duration.ofSeconds(5);
+
     private final RestTemplate restTemplate;
+    private final Clock clock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // 날씨는 하루 단위로만 바뀌므로 날짜(MM-dd)별로 한 번만 조회해서 보관
+    private volatile CachedWeather cachedWeather;
+    // 직전 조회 실패. retryNotBefore 전까지는 다시 호출하지 않고 이 결과를 공유한다.
+    private volatile FailedFetch lastFailure;
+
+    @Autowired
+    public WeatherClient(RestTemplate restTemplate) {
+        this(restTemplate, Clock.systemDefaultZone());
+    }
+
+    WeatherClient(RestTemplate restTemplate, Clock clock) {
+        this.restTemplate = restTemplate;
+        this.clock = clock;
+    }
 
     public String getTodayWeather() {
+        String today = getCurrentDate();
+        CachedWeather cached = cachedWeather;
+
+        if (cached != null && cached.date().equals(today)) {
+            return cached.weather();
+        }
+
+        if (cached != null) {
+            // 이전 값이 있으면 다른 스레드가 갱신 중이거나 직전 갱신이 실패한 동안에는 기다리지 않고 이전 값을 사용
+            if (isBackingOff() || !refreshLock.tryLock()) {
+                return cached.weather();
+            }
+        } else {
+            throwIfBackingOff();
+            refreshLock.lock();
+        }
+
+        try {
+            cached = cachedWeather;
+            if (cached != null && cached.date().equals(today)) {
+                return cached.weather(); // 대기하는 동안 다른 스레드가 갱신함
+            }
+            if (cached == null) {
+                throwIfBackingOff(); // 대기하는 동안 다른 스레드의 조회가 실패함
+            }
+
+            try {
+                String weather = fetchWeather(today);
+                cachedWeather = new CachedWeather(today, weather);
+                lastFailure = null;
+                return weather;
+            } catch (RuntimeException e) {
+                if (cached == null) {
+                    lastFailure = new FailedFetch(clock.millis() + COLD_RETRY_BACKOFF.toMillis(), e);
+                    throw e;
+                }
+
+                lastFailure = new FailedFetch(clock.millis() + RETRY_BACKOFF.toMillis(), e);
+                log.warn("날씨 데이터 갱신 실패, 마지막 값을 사용합니다: date={}, message={}", cached.date(), e.getMessage());
+                return cached.weather();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean isBackingOff() {
+        FailedFetch failure = lastFailure;
+        return failure != null && clock.millis() < failure.retryNotBefore();
+    }
+
+    private void throwIfBackingOff() {
+        FailedFetch failure = lastFailure;
+        if (failure != null && clock.millis() < failure.retryNotBefore()) {
+            throw failure.cause();
+        }
+    }
+
+    private String fetchWeather(String today) {
         ResponseEntity<WeatherDto[]> responseEntity =
             restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -32,8 +117,6 @@ public class WeatherClient {
             }
         }
 
-        String today = getCurrentDate();
-
         for (WeatherDto weatherDto : weatherArray) {
             if (today.equals(weatherDto.getDate())) {
                 return weatherDto.getWeather();
@@ -53,7 +136,12 @@ public class WeatherClient {
     }
 
     private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return LocalDate.now(clock).format(DATE_FORMATTER);
+    }
+
+    private record CachedWeather(String date, String weather) {
+    }
+
+    private record FailedFetch(long retryNotBefore, RuntimeException cause) {
     }
 }
@@ -1,30 +1,29 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.example.expert.aop.LogAdmin;
+import org.example.expert.config.adminlog.AdminLogDispatcher;
+import org.example.expert.config.adminlog.AdminLogEvent;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.time.LocalDateTime;
-import java.util.Arrays;
-
 @Aspect
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AdminApiLoggingAspect {
 
-    private final ObjectMapper objectMapper;
+    private final AdminLogDispatcher adminLogDispatcher;
 
-    @Around("@annotation(org.example.expert.aop.LogAdmin)")
-    public Object logAdminApi(ProceedingJoinPoint joinPoint) throws Throwable {
+    @Around("@annotation(logAdmin)")
+    public Object logAdminApi(ProceedingJoinPoint joinPoint, LogAdmin logAdmin) throws Throwable {
 
         HttpServletRequest httpRequest = getHttpRequest();
 
@@ -35,48 +34,34 @@ public class AdminApiLoggingAspect {
             return joinPoint.proceed();
         }
 
-        // 메서드 실행 전 요청 데이터 로깅
+        // 요청 스레드에서는 참조와 시각만 모으고, 직렬화와 출력은 AdminLogDispatcher 의 소비 스레드가 맡는다.
         String methodName = joinPoint.getSignature().getName();
 
-        Long userId = (Long) httpRequest.getAttribute("userId");
-        LocalDateTime requestTime = LocalDateTime.now();
+        AuthUser authUser = (AuthUser) httpRequest.getAttribute(AuthUser.ATTRIBUTE);
+        Long userId = authUser != null ? authUser.getId() : null;
+        long requestTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         String requestURI = httpRequest.getRequestURI();
-        String requestBody = getRequestBody(joinPoint);
-
-        log.info("[Admin API Logging]");
-        log.info(
-                "REQUEST INFO: methodName = {}, userId = {}, requestTime = {}, requestURI = {}, requestBody = {}",
-                methodName,
-                userId,
-                requestTime,
-                requestURI,
-                requestBody
-        );
+        Object[] args = joinPoint.getArgs();
 
         // 타겟 메서드 실행
         Object result;
         try {
             result = joinPoint.proceed(); // 실제 API 실행
         } catch (Exception e) {
-            log.error(
-                    "ERROR: methodName = {}, requestURI = {}, message = {}",
-                    methodName,
-                    requestURI,
-                    e.getMessage()
-            );
+            adminLogDispatcher.publish(new AdminLogEvent(
+                    methodName, userId, requestURI, requestTime, System.nanoTime() - startNanos,
+                    args, null, String.valueOf(e.getMessage()), logAdmin.sampleRate()
+            ));
 
             throw e; // 처리는 RestControllerAdvice 에게 위임
         }
 
-        // 메서드 실행 후 응답 데이터 로깅
-        String responseBody = convertObjectToJson(result);
-
-        log.info(
-                "RESPONSE INFO: methodName = {}, requestURI = {}, responseBody = {}",
-                methodName,
-                requestURI,
-                responseBody
-        );
+        // 감사 기록은 모든 호출을 남기므로 항상 발행하고, 샘플링은 애플리케이션 로그 sink 에서 한다.
+        adminLogDispatcher.publish(new AdminLogEvent(
+                methodName, userId, requestURI, requestTime, System.nanoTime() - startNanos,
+                args, result, null, logAdmin.sampleRate()
+        ));
 
         return result;
     }
@@ -85,32 +70,4 @@ public class AdminApiLoggingAspect {
         ServletRequestAttributes attr = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         return attr != null ? attr.getRequest() : null;
     }
-
-    private String getRequestBody(ProceedingJoinPoint joinPoint) {
-        Object[] args = joinPoint.getArgs();
-
-        if (args.length > 0) {
-            try {
-                return Arrays.stream(args)
-                        .map(this::convertObjectToJson)
-                        .reduce((arg1, arg2) -> arg1 + ", " + arg2)
-                        .orElse("");
-            } catch (Exception e) {
-                log.error("Error serializing request body", e);
-            }
-        }
-
-        return "";
-    }
-
-    private String convertObjectToJson(Object object) {
-        if (object == null) return "";
-
-        try {
-            return objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            log.error("Error serializing object to JSON", e);
-            return "Error serializing object to JSON";
-        }
-    }
 }
@@ -1,31 +1,83 @@
 package org.example.expert.config;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
-import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.core.MethodParameter;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
 
+/**
+ * {@code @Auth AuthUser} 파라미터에 JwtFilter 가 저장한 인증 사용자를 주입한다.
+ * <p>
+ * 시작 시 모든 핸들러 메서드의 파라미터를 검사해 {@code @Auth} 와 {@link AuthUser} 타입이 어긋난 곳이 있으면 애플리케이션
+ * 기동을 실패시키고, 검사 결과를 파라미터별로 저장해 요청 처리 중에는 어노테이션을 다시 읽지 않는다.
+ */
 @Component
-public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
+public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver, SmartInitializingSingleton {
+
+    private final ObjectProvider<RequestMappingInfoHandlerMapping> handlerMappings;
+    private final Map<MethodParameter, Boolean> decisions = new ConcurrentHashMap<>();
+
+    public AuthUserArgumentResolver(ObjectProvider<RequestMappingInfoHandlerMapping> handlerMappings) {
+        this.handlerMappings = handlerMappings;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        precompute(handlerMappings.orderedStream()
+                .flatMap(handlerMapping -> handlerMapping.getHandlerMethods().values().stream())
+                .toList());
+    }
+
+    // 잘못 사용된 파라미터를 모두 모아 한 번에 알린다.
+    void precompute(Collection<HandlerMethod> handlerMethods) {
+        List<String> mismatches = new ArrayList<>();
+
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+                if (isMismatched(parameter)) {
+                    mismatches.add(handlerMethod.getShortLogMessage() + " parameter #" + parameter.getParameterIndex());
+                } else {
+                    decisions.put(parameter, hasAuthAnnotation(parameter));
+                }
+            }
+        }
+
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException("@Auth와 AuthUser 타입은 함께 사용되어야 합니다: " + mismatches);
+        }
+    }
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        boolean hasAuthAnnotation = parameter.getParameterAnnotation(Auth.class) != null;
-        boolean isAuthUserType = parameter.getParameterType().equals(AuthUser.class);
+        Boolean decision = decisions.get(parameter);
+        if (decision != null) {
+            return decision;
+        }
 
+        // 시작 시 검사하지 않은 파라미터(예외 핸들러 등)
         // @Auth 어노테이션과 AuthUser 타입이 함께 사용되지 않은 경우 예외 발생
-        if (hasAuthAnnotation != isAuthUserType) {
+        if (isMismatched(parameter)) {
             throw new AuthException("@Auth와 AuthUser 타입은 함께 사용되어야 합니다.");
         }
 
+        boolean hasAuthAnnotation = hasAuthAnnotation(parameter);
+        decisions.put(parameter, hasAuthAnnotation);
         return hasAuthAnnotation;
     }
 
@@ -38,11 +90,20 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
     ) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
 
-        // JwtFilter 에서 set 한 userId, email, userRole 값을 가져옴
-        Long userId = (Long) request.getAttribute("userId");
-        String email = (String) request.getAttribute("email");
-        UserRole userRole = UserRole.of((String) request.getAttribute("userRole"));
+        // JwtFilter 에서 set 한 AuthUser 를 그대로 사용
+        AuthUser authUser = (AuthUser) request.getAttribute(AuthUser.ATTRIBUTE);
+        if (authUser == null) {
+            throw new AuthException("인증이 필요합니다.");
+        }
+
+        return authUser;
+    }
+
+    private static boolean hasAuthAnnotation(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(Auth.class);
+    }
 
-        return new AuthUser(userId, email, userRole);
+    private static boolean isMismatched(MethodParameter parameter) {
+        return hasAuthAnnotation(parameter) != parameter.getParameterType().equals(AuthUser.class);
     }
 }
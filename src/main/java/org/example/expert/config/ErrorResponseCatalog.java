@@ -0,0 +1,90 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 에러 응답 본문({"status", "code", "message"})을 UTF-8 바이트로 미리 인코딩해 재사용한다.
+ * <p>
+ * 인증 실패처럼 같은 응답이 대량으로 반복될 때 요청마다 Map 생성과 JSON 직렬화를 하지 않도록 상태 코드와
+ * 메시지별로 캐시한다. 메시지 종류가 최대 개수를 넘으면 캐시하지 않고 매번 인코딩한다.
+ */
+public class ErrorResponseCatalog {
+
+    static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+    private static final MediaType MEDIA_TYPE = MediaType.parseMediaType(CONTENT_TYPE);
+
+    private final ObjectMapper objectMapper;
+    private final int maximumSize;
+    // HttpStatus.ordinal() -> (message -> 인코딩된 본문)
+    private final Map<String, byte[]>[] payloads;
+
+    @Autowired
+    @SuppressWarnings("unchecked")
+    public ErrorResponseCatalog(
+            ObjectMapper objectMapper,
+            @Value("${error-response.cache.maximum-size:1000}") int maximumSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.maximumSize = maximumSize;
+        this.payloads = new Map[HttpStatus.values().length];
+        for (int i = 0; i < payloads.length; i++) {
+            payloads[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    public byte[] get(HttpStatus status, String message) {
+        Map<String, byte[]> byMessage = payloads[status.ordinal()];
+        String key = message != null ? message : "";
+
+        byte[] payload = byMessage.get(key);
+        if (payload == null) {
+            payload = encode(status, message);
+            if (byMessage.size() < maximumSize) {
+                byMessage.putIfAbsent(key, payload);
+            }
+        }
+        return payload;
+    }
+
+    // 서블릿 응답에 바로 쓴다. (필터처럼 MessageConverter 를 거치지 않는 곳)
+    public void write(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        byte[] payload = get(status, message);
+
+        response.setStatus(status.value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(payload.length);
+        response.getOutputStream().write(payload);
+    }
+
+    // 컨트롤러 어드바이스용. byte[] 본문은 ByteArrayHttpMessageConverter 가 그대로 내보낸다.
+    public ResponseEntity<byte[]> toResponseEntity(HttpStatus status, String message) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MEDIA_TYPE);
+        return new ResponseEntity<>(get(status, message), headers, status);
+    }
+
+    private byte[] encode(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("status", status.name());
+        errorResponse.put("code", status.value());
+        errorResponse.put("message", message);
+
+        try {
+            return objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 도메인 예외는 Spring 밖(정적 팩토리 등)에서도 생성되므로 설정 값을 {@link BusinessException} 에 전역으로 반영한다.
+ */
+@Slf4j
+@Configuration
+public class ExceptionConfig {
+
+    public ExceptionConfig(@Value("${exception.stack-trace.enabled:true}") boolean stackTraceEnabled) {
+        BusinessException.setStackTraceEnabled(stackTraceEnabled);
+        log.info("Business exception stack traces: {}", stackTraceEnabled ? "enabled" : "disabled");
+    }
+}
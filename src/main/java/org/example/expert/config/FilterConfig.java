@@ -1,7 +1,7 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.service.TokenRevocationStore;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,12 +11,16 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper;
+    private final JwtTokenCache jwtTokenCache;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RoutePolicyRegistry routePolicyRegistry;
+    private final ErrorResponseCatalog errorResponseCatalog;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil, objectMapper));
+        registrationBean.setFilter(new JwtFilter(
+                jwtUtil, jwtTokenCache, tokenRevocationStore, routePolicyRegistry, errorResponseCatalog));
         registrationBean.addUrlPatterns("/*");
 
         return registrationBean;
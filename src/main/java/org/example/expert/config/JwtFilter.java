@@ -1,7 +1,5 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -10,12 +8,14 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.service.TokenRevocationStore;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.enums.AccessLevel;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.server.RequestPath;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Slf4j
@@ -23,7 +23,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper;
+    private final JwtTokenCache jwtTokenCache;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RoutePolicyRegistry routePolicyRegistry;
+    private final ErrorResponseCatalog errorResponseCatalog;
 
     @Override
     protected void doFilterInternal(
@@ -33,8 +36,9 @@ public class JwtFilter extends OncePerRequestFilter {
     ) throws IOException, ServletException {
 
         String url = request.getRequestURI();
+        AccessLevel accessLevel = routePolicyRegistry.resolve(request.getMethod(), pathWithinApplication(request, url));
 
-        if (url.startsWith("/auth")) {
+        if (accessLevel == AccessLevel.PUBLIC) {
             chain.doFilter(request, response);
             return;
         }
@@ -50,22 +54,34 @@ public class JwtFilter extends OncePerRequestFilter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                log.warn("Claims 추출 실패: URI={}", url);
+            // 이미 검증한 토큰이면 서명 검증과 claims 파싱을 생략
+            VerifiedToken verifiedToken = jwtTokenCache.get(jwt);
+
+            if (verifiedToken == null) {
+                // JWT 유효성 검사와 claims 추출
+                verifiedToken = jwtUtil.verifyToken(jwt);
+                if (verifiedToken == null) {
+                    log.warn("Claims 추출 실패: URI={}", url);
+                    sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+                    return;
+                }
+
+                jwtTokenCache.put(jwt, verifiedToken);
+            }
+
+            // 만료 전에 무효화된 토큰인지 메모리에서 확인
+            if (tokenRevocationStore.isRevoked(verifiedToken)) {
+                log.info("무효화된 JWT: userId={}, URI={}", verifiedToken.getUserId(), url);
                 sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            UserRole userRole = verifiedToken.getUserRole();
 
-            request.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            request.setAttribute("email", claims.get("email"));
-            request.setAttribute("userRole", claims.get("userRole"));
+            request.setAttribute(AuthUser.ATTRIBUTE, verifiedToken.getAuthUser());
 
-            if (url.startsWith("/admin") && !UserRole.ADMIN.equals(userRole)) {
-                log.warn("권한 부족: userId={}, role={}, URI={}", claims.getSubject(), userRole, url);
+            if (accessLevel == AccessLevel.ADMIN && !UserRole.ADMIN.equals(userRole)) {
+                log.warn("권한 부족: userId={}, role={}, URI={}", verifiedToken.getUserId(), userRole, url);
                 sendErrorResponse(response, HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
                 return;
             }
@@ -84,16 +100,17 @@ public class JwtFilter extends OncePerRequestFilter {
         }
     }
 
+    // 핸들러 매핑과 같은 기준으로 판단하도록 컨텍스트 경로를 뺀다. (디코딩과 ';' 제거는 RoutePolicyTable 에서 한다)
+    private static String pathWithinApplication(HttpServletRequest request, String url) {
+        String contextPath = request.getContextPath();
+        if (contextPath == null || contextPath.isEmpty()) {
+            return url;
+        }
+        return RequestPath.parse(url, contextPath).pathWithinApplication().value();
+    }
+
     private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message)
         throws IOException {
-        response.setStatus(status.value());
-        response.setContentType("application/json;charset=UTF-8");
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("status", status.name());
-        errorResponse.put("code", status.value());
-        errorResponse.put("message", message);
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        errorResponseCatalog.write(response, status, message);
     }
 }
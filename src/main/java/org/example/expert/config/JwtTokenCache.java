@@ -0,0 +1,63 @@
+package org.example.expert.config;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import org.example.expert.domain.common.cache.BoundedCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미 서명 검증을 마친 토큰을 재검증하지 않도록 보관하는 캐시.
+ * <p>
+ * 토큰 원문 대신 SHA-256 digest 를 key 로 사용하고, 각 항목은 토큰 자체의 exp 까지만 유지된다.
+ */
+@Component
+public class JwtTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final BoundedCache<ByteBuffer, VerifiedToken> cache;
+
+    @Autowired
+    public JwtTokenCache(@Value("${jwt.cache.maximum-size:10000}") int maximumSize) {
+        this(maximumSize, Clock.systemUTC());
+    }
+
+    JwtTokenCache(int maximumSize, Clock clock) {
+        this.cache = new BoundedCache<>(maximumSize, clock);
+    }
+
+    public VerifiedToken get(String token) {
+        return cache.get(digest(token));
+    }
+
+    public void put(String token, VerifiedToken verifiedToken) {
+        cache.put(digest(token), verifiedToken, verifiedToken.getExpiresAt());
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
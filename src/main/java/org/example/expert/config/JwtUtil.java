@@ -1,6 +1,10 @@
 package org.example.expert.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,26 +16,56 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    public static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+
+    // createToken 이 만드는 헤더({"alg":"HS256"})의 base64url 인코딩 값
+    private static final String ISSUED_HEADER = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+    private static final int SIGNATURE_LENGTH = 32; // HS256
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final byte[] BASE64_URL_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_URL_VALUES, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+    }
 
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    private JwtParser jwtParser;
+    private ThreadLocal<Scratch> scratch;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+
+        SecretKeySpec macKey = new SecretKeySpec(bytes, "HmacSHA256");
+        scratch = ThreadLocal.withInitial(() -> new Scratch(macKey));
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
@@ -39,6 +73,7 @@ public class JwtUtil {
 
         return BEARER_PREFIX +
                 Jwts.builder()
+                        .setId(UUID.randomUUID().toString()) // 개별 무효화용 식별자
                         .setSubject(String.valueOf(userId))
                         .claim("email", email)
                         .claim("userRole", userRole)
@@ -56,10 +91,186 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    /**
+     * 토큰을 검증하고 필요한 값만 추출한다.
+     * <p>
+     * 직접 발급한 형태의 토큰은 {@link #verifyIssuedToken(String)} 으로 처리하고, 그 외의 경우(만료, 서명 불일치,
+     * 다른 헤더 등)는 jjwt 파서로 넘겨 기존과 같은 예외가 발생하도록 한다.
+     */
+    public VerifiedToken verifyToken(String token) {
+        VerifiedToken verifiedToken = verifyIssuedToken(token);
+        if (verifiedToken != null) {
+            return verifiedToken;
+        }
+
+        Claims claims = extractClaims(token);
+        return claims != null ? VerifiedToken.from(claims) : null;
+    }
+
+    /**
+     * createToken 이 발급한 형태의 유효한 토큰만 처리하는 빠른 경로.
+     * 조건에 맞지 않으면 예외 대신 null 을 반환한다.
+     */
+    VerifiedToken verifyIssuedToken(String token) {
+        int headerEnd = ISSUED_HEADER.length();
+        if (token.length() <= headerEnd || token.charAt(headerEnd) != '.' || !token.startsWith(ISSUED_HEADER)) {
+            return null;
+        }
+
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return null;
+        }
+
+        Scratch s = scratch.get();
+
+        // 서명 검증: header.payload 의 HMAC 과 디코딩한 서명을 비교
+        byte[] signingInput = s.buffer(payloadEnd);
+        for (int i = 0; i < payloadEnd; i++) {
+            signingInput[i] = (byte) token.charAt(i);
+        }
+
+        int signatureLength = decodeBase64Url(token, payloadEnd + 1, token.length(), s.signature);
+        if (signatureLength != SIGNATURE_LENGTH) {
+            return null;
+        }
+
+        try {
+            s.mac.update(signingInput, 0, payloadEnd);
+            s.mac.doFinal(s.expected, 0);
+        } catch (GeneralSecurityException e) {
+            s.mac.reset();
+            return null;
+        }
+
+        int diff = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            diff |= s.expected[i] ^ s.signature[i];
+        }
+        if (diff != 0) {
+            return null;
+        }
+
+        // payload 디코딩은 header.payload 버퍼를 그대로 재사용
+        int payloadLength = decodeBase64Url(token, headerEnd + 1, payloadEnd, signingInput);
+        if (payloadLength < 0) {
+            return null;
+        }
+
+        return parsePayload(signingInput, payloadLength);
+    }
+
+    private VerifiedToken parsePayload(byte[] payload, int length) {
+        String subject = null;
+        String email = null;
+        String userRole = null;
+        long expiration = -1;
+        String jti = null;
+        long issuedAt = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(payload, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                switch (field) {
+                    case "sub" -> subject = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "email" -> email = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "userRole" -> userRole = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "exp" -> expiration = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : -1;
+                    case "jti" -> jti = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "iat" -> issuedAt = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() * 1000L : 0;
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            return null;
+        }
+
+        if (subject == null || userRole == null || expiration < 0) {
+            return null;
+        }
+
+        long expiresAt = expiration * 1000L;
+        if (expiresAt <= System.currentTimeMillis()) {
+            return null; // 만료 처리는 jjwt 파서에 맡김
+        }
+
+        try {
+            return new VerifiedToken(Long.parseLong(subject), email, UserRole.valueOf(userRole), expiresAt, jti, issuedAt);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * token[from, to) 구간의 base64url 문자열을 out 에 디코딩하고 바이트 수를 반환한다.
+     * 잘못된 입력이거나 out 이 부족하면 -1 을 반환한다.
+     */
+    private static int decodeBase64Url(String token, int from, int to, byte[] out) {
+        int length = to - from;
+        if (length % 4 == 1) {
+            return -1;
+        }
+
+        int outLength = length * 3 / 4;
+        if (outLength > out.length) {
+            return -1;
+        }
+
+        int bits = 0;
+        int bitCount = 0;
+        int position = 0;
+        for (int i = from; i < to; i++) {
+            char c = token.charAt(i);
+            int value = c < 128 ? BASE64_URL_VALUES[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[position++] = (byte) (bits >> bitCount);
+            }
+        }
+        return position;
+    }
+
+    /**
+     * 스레드마다 재사용하는 Mac 과 버퍼
+     */
+    private static final class Scratch {
+
+        private final Mac mac;
+        private final byte[] signature = new byte[SIGNATURE_LENGTH + 2];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private byte[] buffer = new byte[512];
+
+        private Scratch(SecretKeySpec macKey) {
+            try {
+                this.mac = Mac.getInstance("HmacSHA256");
+                this.mac.init(macKey);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private byte[] buffer(int size) {
+            if (buffer.length < size) {
+                buffer = new byte[Math.max(size, buffer.length * 2)];
+            }
+            return buffer;
+        }
+    }
 }
@@ -1,17 +1,93 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    private static final int MAX_COST = 31;
+
+    // BCrypt 는 CPU 를 오래 점유하므로 요청 스레드가 아닌 전용 풀에서 실행한다.
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final int cost;
+
+    /**
+     * password.bcrypt.cost 가 지정되면 그 값을 쓰고,
+     * 아니면 기동 시 target-latency-ms 안에 들어오는 가장 큰 cost 를 측정해 사용한다.
+     */
+    @Autowired
+    public PasswordEncoder(
+            PasswordHashExecutor passwordHashExecutor,
+            @Value("${password.bcrypt.cost:0}") int fixedCost,
+            @Value("${password.bcrypt.target-latency-ms:250}") long targetLatencyMs
+    ) {
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.cost = fixedCost > 0 ? fixedCost : calibrateCost(targetLatencyMs);
+        log.info("BCrypt cost = {}", cost);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return passwordHashExecutor.encode(
+                () -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray())
+        );
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return passwordHashExecutor.matches(() -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮을 때만 다시 해싱한다.
+    // 기동 시 보정한 cost 는 노드마다 다를 수 있으므로, 더 높은 cost 의 해시를 낮추거나 노드끼리 번갈아 덮어쓰지 않는다.
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) < cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    // "$2a$10$..." 형식의 해시에서 cost 를 읽는다. 형식이 다르면 -1
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$'
+                || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    // cost 가 1 오를 때마다 해싱 시간이 두 배가 되므로, 다음 cost 가 목표를 넘기 직전까지 올린다.
+    static int calibrateCost(long targetLatencyMs) {
+        char[] sample = "calibration-password".toCharArray();
+        BCrypt.withDefaults().hash(BCrypt.MIN_COST, sample);
+
+        int cost = BCrypt.MIN_COST;
+        long elapsedNanos = measure(cost, sample);
+        long targetNanos = targetLatencyMs * 1_000_000L;
+        while (cost < MAX_COST && elapsedNanos * 2 <= targetNanos) {
+            cost++;
+            elapsedNanos = measure(cost, sample);
+        }
+        return cost;
+    }
+
+    private static long measure(int cost, char[] sample) {
+        long start = System.nanoTime();
+        BCrypt.withDefaults().hash(cost, sample);
+        return System.nanoTime() - start;
     }
 }
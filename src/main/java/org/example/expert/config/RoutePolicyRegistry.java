@@ -0,0 +1,98 @@
+package org.example.expert.config;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.annotation.Access;
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+
+/**
+ * 애플리케이션 시작 시 컨트롤러 매핑과 {@link Access} 를 읽어 {@link RoutePolicyTable} 을 만든다.
+ * <p>
+ * 액추에이터처럼 어노테이션을 붙일 수 없는 경로는 {@code route-policy.public-paths} 로 공개할 수 있다.
+ * {@code /admin} 아래는 매핑이나 설정과 관계없이 항상 ADMIN 으로 판단해, 경로 해석이 어긋나도 닫힌 쪽으로 실패하게 한다.
+ * 요청은 모든 싱글톤 생성이 끝난 뒤에 들어오므로, 그 전까지는 모든 경로를 기본 수준으로 취급한다.
+ */
+@Slf4j
+@Component
+public class RoutePolicyRegistry implements SmartInitializingSingleton {
+
+    private static final String ADMIN_PREFIX = "/admin";
+
+    private final ObjectProvider<RequestMappingInfoHandlerMapping> handlerMappings;
+    private final String[] publicPaths;
+    private volatile RoutePolicyTable table;
+
+    @Autowired
+    public RoutePolicyRegistry(
+            ObjectProvider<RequestMappingInfoHandlerMapping> handlerMappings,
+            @Value("${route-policy.public-paths:}") String[] publicPaths
+    ) {
+        this.handlerMappings = handlerMappings;
+        this.publicPaths = publicPaths;
+        this.table = RoutePolicyTable.builder()
+                .floor(ADMIN_PREFIX, AccessLevel.ADMIN)
+                .build();
+    }
+
+    RoutePolicyRegistry(RoutePolicyTable table) {
+        this.handlerMappings = null;
+        this.publicPaths = new String[0];
+        this.table = table;
+    }
+
+    public AccessLevel resolve(String method, String path) {
+        return table.resolve(method, path);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        RoutePolicyTable.Builder builder = RoutePolicyTable.builder()
+                .floor(ADMIN_PREFIX, AccessLevel.ADMIN);
+
+        handlerMappings.orderedStream().forEach(handlerMapping -> {
+            for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+                register(builder, entry.getKey(), entry.getValue());
+            }
+        });
+
+        for (String publicPath : publicPaths) {
+            if (!publicPath.isBlank()) {
+                builder.override(publicPath.trim(), AccessLevel.PUBLIC);
+            }
+        }
+
+        table = builder.build();
+    }
+
+    private static void register(RoutePolicyTable.Builder builder, RequestMappingInfo info, HandlerMethod handlerMethod) {
+        AccessLevel level = accessLevelOf(handlerMethod);
+        Set<String> methods = info.getMethodsCondition().getMethods().stream()
+                .map(RequestMethod::name)
+                .collect(Collectors.toSet());
+
+        for (String pattern : info.getPatternValues()) {
+            builder.register(pattern, methods, level);
+            log.debug("Route policy: {} {} -> {}", methods.isEmpty() ? "*" : methods, pattern, level);
+        }
+    }
+
+    private static AccessLevel accessLevelOf(HandlerMethod handlerMethod) {
+        Access access = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), Access.class);
+        if (access == null) {
+            access = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Access.class);
+        }
+        return access != null ? access.value() : AccessLevel.AUTHENTICATED;
+    }
+}
@@ -0,0 +1,309 @@
+package org.example.expert.config;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.springframework.http.server.PathContainer;
+
+/**
+ * 경로 패턴 → 접근 수준 조회 테이블.
+ * <p>
+ * 경로 변수가 없는 패턴은 해시 조회 한 번으로, 경로 변수({@code {id}}, {@code *})나 끝의 {@code **} 가 있는
+ * 패턴은 세그먼트 단위 트라이로 찾는다. 트라이에서는 고정 세그먼트 → 경로 변수 → {@code **} 순으로 우선한다.
+ * 같은 패턴과 HTTP 메서드에 여러 수준이 등록되면 더 엄격한 쪽을 사용하고, 일치하는 패턴이 없으면 기본 수준을 반환한다.
+ * {@link Builder#floor} 로 지정한 접두 경로 아래에서는 어떤 패턴이 일치하든 그 수준보다 느슨해지지 않는다.
+ * <p>
+ * 요청 경로는 Spring MVC 가 핸들러를 고를 때처럼 세그먼트별로 퍼센트 디코딩하고 {@code ;} 뒤의 경로 파라미터를 떼어 낸 뒤 비교한다.
+ * <p>
+ * {@link Builder} 로 한 번 만든 뒤에는 변경하지 않으므로 여러 스레드에서 락 없이 조회할 수 있다.
+ */
+public final class RoutePolicyTable {
+
+    private final Map<String, MethodPolicy> exactRoutes;
+    private final Node root;
+    private final AccessLevel defaultLevel;
+    private final boolean hasFloors;
+
+    private RoutePolicyTable(Builder builder) {
+        this.exactRoutes = builder.exactRoutes;
+        this.root = builder.root;
+        this.root.freeze();
+        this.defaultLevel = builder.defaultLevel;
+        this.hasFloors = builder.hasFloors;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param path 컨텍스트 경로를 뺀 요청 경로 (디코딩 전 원본)
+     */
+    public AccessLevel resolve(String method, String path) {
+        if (path.indexOf('%') >= 0 || path.indexOf(';') >= 0) {
+            path = lookupPath(path);
+            if (path == null) {
+                return AccessLevel.ADMIN;
+            }
+        }
+
+        AccessLevel level = resolveNormalized(method, path);
+        if (hasFloors) {
+            AccessLevel floor = floorOf(root, path);
+            if (floor != null) {
+                return floor.stricter(level);
+            }
+        }
+        return level;
+    }
+
+    private AccessLevel resolveNormalized(String method, String path) {
+        MethodPolicy exact = exactRoutes.get(path);
+        if (exact != null) {
+            AccessLevel level = exact.resolve(method);
+            if (level != null) {
+                return level;
+            }
+        }
+
+        AccessLevel level = match(root, path, 0, method);
+        return level != null ? level : defaultLevel;
+    }
+
+    // 세그먼트마다 경로 파라미터를 떼고 디코딩한 값으로 다시 잇는다. (PathPattern 이 비교하는 값과 같다)
+    // 디코딩된 '/' 는 세그먼트 경계를 바꿔 판단을 어긋나게 할 수 있으므로 null 을 돌려 가장 엄격한 수준으로 처리한다.
+    private static String lookupPath(String path) {
+        StringBuilder lookupPath = new StringBuilder(path.length());
+        for (PathContainer.Element element : PathContainer.parsePath(path).elements()) {
+            if (element instanceof PathContainer.PathSegment segment) {
+                String value = segment.valueToMatch();
+                if (value.indexOf('/') >= 0) {
+                    return null;
+                }
+                lookupPath.append(value);
+            } else {
+                lookupPath.append('/');
+            }
+        }
+        return lookupPath.toString();
+    }
+
+    private static AccessLevel floorOf(Node node, String path) {
+        AccessLevel floor = null;
+        int from = 0;
+        while (node != null) {
+            if (node.floor != null) {
+                floor = node.floor.stricter(floor);
+            }
+            while (from < path.length() && path.charAt(from) == '/') {
+                from++;
+            }
+            if (from == path.length()) {
+                break;
+            }
+            int end = path.indexOf('/', from);
+            if (end < 0) {
+                end = path.length();
+            }
+            node = node.literal(path, from, end);
+            from = end;
+        }
+        return floor;
+    }
+
+    private static AccessLevel match(Node node, String path, int from, String method) {
+        while (from < path.length() && path.charAt(from) == '/') {
+            from++;
+        }
+
+        if (from == path.length()) {
+            AccessLevel level = node.policy != null ? node.policy.resolve(method) : null;
+            if (level == null && node.wildcard != null) {
+                level = node.wildcard.resolve(method);
+            }
+            return level;
+        }
+
+        int end = path.indexOf('/', from);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        Node literal = node.literal(path, from, end);
+        if (literal != null) {
+            AccessLevel level = match(literal, path, end, method);
+            if (level != null) {
+                return level;
+            }
+        }
+
+        if (node.variable != null) {
+            AccessLevel level = match(node.variable, path, end, method);
+            if (level != null) {
+                return level;
+            }
+        }
+
+        return node.wildcard != null ? node.wildcard.resolve(method) : null;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, MethodPolicy> exactRoutes = new HashMap<>();
+        private final Node root = new Node();
+        private AccessLevel defaultLevel = AccessLevel.AUTHENTICATED;
+        private boolean hasFloors;
+
+        private Builder() {
+        }
+
+        public Builder defaultLevel(AccessLevel defaultLevel) {
+            this.defaultLevel = defaultLevel;
+            return this;
+        }
+
+        /**
+         * 패턴에 접근 수준을 등록한다. methods 가 비어 있으면 모든 HTTP 메서드에 적용한다.
+         */
+        public Builder register(String pattern, Collection<String> methods, AccessLevel level) {
+            MethodPolicy policy = policyOf(pattern);
+            if (methods.isEmpty()) {
+                policy.anyMethod = level.stricter(policy.anyMethod);
+            } else {
+                for (String method : methods) {
+                    policy.byMethod.merge(method, level, AccessLevel::stricter);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * 기존 등록 내용을 무시하고 모든 HTTP 메서드에 대해 접근 수준을 지정한다. (설정 파일의 예외 경로용)
+         */
+        public Builder override(String pattern, AccessLevel level) {
+            MethodPolicy policy = policyOf(pattern);
+            policy.byMethod.clear();
+            policy.anyMethod = level;
+            return this;
+        }
+
+        /**
+         * prefix 자신과 그 아래 모든 경로의 최소 수준을 지정한다. 등록된 패턴이 없거나 더 느슨해도 이 수준을 적용한다.
+         */
+        public Builder floor(String prefix, AccessLevel level) {
+            Node node = root;
+            for (String segment : prefix.split("/")) {
+                if (!segment.isEmpty()) {
+                    node = node.literals.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+            node.floor = level.stricter(node.floor);
+            hasFloors = true;
+            return this;
+        }
+
+        public RoutePolicyTable build() {
+            return new RoutePolicyTable(this);
+        }
+
+        private MethodPolicy policyOf(String pattern) {
+            String[] segments = pattern.split("/");
+            boolean literal = true;
+            for (String segment : segments) {
+                if (isVariable(segment) || segment.equals("**")) {
+                    literal = false;
+                    break;
+                }
+            }
+
+            // 고정 경로는 해시 조회용 맵과 트라이 양쪽에 같은 객체를 둔다. (슬래시가 겹친 요청 경로는 트라이에서 처리)
+            Node node = root;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (segment.equals("**")) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("'**' is only supported at the end of a pattern: " + pattern);
+                    }
+                    if (node.wildcard == null) {
+                        node.wildcard = new MethodPolicy();
+                    }
+                    return node.wildcard;
+                }
+                if (isVariable(segment)) {
+                    if (node.variable == null) {
+                        node.variable = new Node();
+                    }
+                    node = node.variable;
+                } else {
+                    node = node.literals.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+
+            if (node.policy == null) {
+                node.policy = new MethodPolicy();
+            }
+            if (literal) {
+                exactRoutes.put(pattern, node.policy);
+            }
+            return node.policy;
+        }
+
+        private static boolean isVariable(String segment) {
+            return segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0 && !segment.equals("**");
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private String[] literalKeys = new String[0];
+        private Node[] literalNodes = new Node[0];
+        private Node variable;
+        private MethodPolicy policy;
+        private MethodPolicy wildcard;
+        private AccessLevel floor;
+
+        // 자식 수가 적으므로 세그먼트를 잘라 내지 않고 요청 경로 위에서 바로 비교한다.
+        private Node literal(String path, int from, int end) {
+            int length = end - from;
+            for (int i = 0; i < literalKeys.length; i++) {
+                String key = literalKeys[i];
+                if (key.length() == length && path.regionMatches(from, key, 0, length)) {
+                    return literalNodes[i];
+                }
+            }
+            return null;
+        }
+
+        // 조회용 배열로 옮긴다.
+        private void freeze() {
+            literalKeys = literals.keySet().toArray(new String[0]);
+            literalNodes = new Node[literalKeys.length];
+            for (int i = 0; i < literalKeys.length; i++) {
+                literalNodes[i] = literals.get(literalKeys[i]);
+                literalNodes[i].freeze();
+            }
+            if (variable != null) {
+                variable.freeze();
+            }
+        }
+    }
+
+    private static final class MethodPolicy {
+
+        private final Map<String, AccessLevel> byMethod = new HashMap<>();
+        private AccessLevel anyMethod;
+
+        private AccessLevel resolve(String method) {
+            AccessLevel level = method != null ? byMethod.get(method) : null;
+            if (level == null && "HEAD".equals(method)) {
+                level = byMethod.get("GET"); // GET 핸들러가 HEAD 도 처리한다.
+            }
+            return level != null ? level : anyMethod;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+
+/**
+ * 서명 검증을 마친 JWT 에서 필요한 값만 추려 둔 객체
+ */
+@Getter
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String email;
+    private final UserRole userRole;
+    private final long expiresAt; // epoch millis
+    private final String jti;
+    private final long issuedAt; // epoch millis
+    // 토큰과 함께 캐시되므로 같은 토큰의 요청마다 새로 만들지 않는다.
+    private final AuthUser authUser;
+
+    public VerifiedToken(Long userId, String email, UserRole userRole, long expiresAt) {
+        this(userId, email, userRole, expiresAt, null, 0L);
+    }
+
+    public VerifiedToken(Long userId, String email, UserRole userRole, long expiresAt, String jti, long issuedAt) {
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+        this.expiresAt = expiresAt;
+        this.jti = jti;
+        this.issuedAt = issuedAt;
+        this.authUser = new AuthUser(userId, email, userRole);
+    }
+
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class)),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : 0L,
+                claims.getId(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L
+        );
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.expert.config.adminlog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관리자 API 로그를 요청 스레드에서 분리한다.
+ * <p>
+ * 요청 스레드는 {@link #publish} 로 이벤트를 링 버퍼에 넣기만 하고, 전용 소비 스레드가 최대 batch-size 개씩 꺼내
+ * 등록된 모든 {@link AdminLogSink} 에 넘긴다. 버퍼가 비어 있으면 idle-wait 동안 쉰다.
+ * 감사 sink({@link AdminLogSink#requiresEveryEvent()})가 하나라도 있으면 DROP 정책이어도 버리지 않고 BLOCK 처럼 기다린다.
+ * 그래도 버려진 이벤트(종료 중 발행 등)는 admin.log.dropped 에 sink 별로 센다.
+ * 종료 시에는 남은 이벤트를 모두 기록하고 sink 를 flush 한 뒤 멈춘다.
+ */
+@Slf4j
+@Component
+public class AdminLogDispatcher {
+
+    private static final String METRIC_PREFIX = "admin.log";
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final AdminLogRingBuffer<AdminLogEvent> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long idleWaitNanos;
+    private final List<AdminLogSink> sinks;
+    private final boolean blockOnFull;
+    private final List<Counter> droppedCounters;
+    private final Thread consumer;
+    private volatile boolean running;
+
+    @Autowired
+    public AdminLogDispatcher(
+            @Value("${admin-log.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${admin-log.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+            @Value("${admin-log.batch-size:256}") int batchSize,
+            @Value("${admin-log.idle-wait:10ms}") Duration idleWait,
+            List<AdminLogSink> sinks,
+            MeterRegistry meterRegistry
+    ) {
+        this.buffer = new AdminLogRingBuffer<>(bufferCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.idleWaitNanos = idleWait.toNanos();
+        this.sinks = List.copyOf(sinks);
+        this.blockOnFull = overflowPolicy == OverflowPolicy.BLOCK
+                || sinks.stream().anyMatch(AdminLogSink::requiresEveryEvent);
+        if (overflowPolicy == OverflowPolicy.DROP && blockOnFull) {
+            log.info("감사 sink 가 있어 버퍼가 가득 차면 DROP 대신 기다립니다: sinks={}",
+                    sinks.stream().filter(AdminLogSink::requiresEveryEvent).map(sink -> sink.getClass().getSimpleName()).toList());
+        }
+        this.consumer = new Thread(this::consume, "admin-log-writer");
+        this.consumer.setDaemon(true);
+
+        this.droppedCounters = sinks.stream()
+                .map(sink -> Counter.builder(METRIC_PREFIX + ".dropped")
+                        .tag("sink", sink.getClass().getSimpleName())
+                        .register(meterRegistry))
+                .toList();
+        Gauge.builder(METRIC_PREFIX + ".queue.size", buffer, AdminLogRingBuffer::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        consumer.start();
+    }
+
+    /**
+     * 이벤트를 버퍼에 넣는다. DROP 정책(감사 sink 없음)에서 버퍼가 가득 찼거나 이미 종료된 경우 false 를 반환한다.
+     */
+    public boolean publish(AdminLogEvent event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+
+        if (blockOnFull) {
+            // 소비 스레드가 멈춘 뒤에는 기다려도 빈 칸이 생기지 않으므로 버린다.
+            while (running) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (buffer.offer(event)) {
+                    return true;
+                }
+            }
+        }
+
+        for (Counter droppedCounter : droppedCounters) {
+            droppedCounter.increment();
+        }
+        return false;
+    }
+
+    private void consume() {
+        List<AdminLogEvent> batch = new ArrayList<>(batchSize);
+
+        while (running || !buffer.isEmpty()) {
+            buffer.drain(batch::add, batchSize);
+
+            if (!batch.isEmpty()) {
+                for (AdminLogSink sink : sinks) {
+                    try {
+                        sink.write(batch);
+                    } catch (Exception e) {
+                        log.error("관리자 API 로그 기록 실패: sink={}, size={}", sink.getClass().getSimpleName(), batch.size(), e);
+                    }
+                }
+            }
+
+            for (AdminLogSink sink : sinks) {
+                try {
+                    sink.poll();
+                } catch (Exception e) {
+                    log.error("관리자 API 로그 기록 실패: sink={}", sink.getClass().getSimpleName(), e);
+                }
+            }
+
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(idleWaitNanos);
+            }
+            batch.clear();
+        }
+
+        for (AdminLogSink sink : sinks) {
+            try {
+                sink.flush();
+            } catch (Exception e) {
+                log.error("관리자 API 로그 기록 실패: sink={}", sink.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    int pending() {
+        return buffer.size();
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.expert.config.adminlog;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 관리자 API 호출 한 건. 요청 스레드에서는 참조와 시각만 담고, 직렬화는 소비 스레드의 {@link AdminLogSink} 가 한다.
+ * <p>
+ * 인자와 반환값은 복사하지 않으므로 호출이 끝난 뒤 변경되는 객체라면 변경된 값이 기록될 수 있다.
+ */
+@Getter
+public class AdminLogEvent {
+
+    private final String methodName;
+    private final Long userId;
+    private final String requestURI;
+    private final long requestTime; // epoch millis
+    private final long durationNanos;
+    private final Object[] args;
+    private final Object result;
+    private final String errorMessage; // 실패한 호출이면 예외 메시지, 아니면 null
+    private final double sampleRate; // @LogAdmin(sampleRate). 애플리케이션 로그에만 적용하고 감사 기록은 항상 남긴다.
+
+    // 소비 스레드에서 처음 필요할 때 한 번만 직렬화해 여러 sink 가 함께 쓴다.
+    @Getter(AccessLevel.NONE)
+    private String requestBody;
+
+    public AdminLogEvent(
+            String methodName,
+            Long userId,
+            String requestURI,
+            long requestTime,
+            long durationNanos,
+            Object[] args,
+            Object result,
+            String errorMessage
+    ) {
+        this(methodName, userId, requestURI, requestTime, durationNanos, args, result, errorMessage, 1.0);
+    }
+
+    public AdminLogEvent(
+            String methodName,
+            Long userId,
+            String requestURI,
+            long requestTime,
+            long durationNanos,
+            Object[] args,
+            Object result,
+            String errorMessage,
+            double sampleRate
+    ) {
+        this.methodName = methodName;
+        this.userId = userId;
+        this.requestURI = requestURI;
+        this.requestTime = requestTime;
+        this.durationNanos = durationNanos;
+        this.args = args;
+        this.result = result;
+        this.errorMessage = errorMessage;
+        this.sampleRate = sampleRate;
+    }
+
+    public String requestBody(AdminLogPayloadWriter payloadWriter) {
+        if (requestBody == null) {
+            requestBody = payloadWriter.writeArgs(args);
+        }
+        return requestBody;
+    }
+
+    public boolean isFailed() {
+        return errorMessage != null;
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.expert.config.adminlog;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 관리자 API 로그의 요청/응답 본문을 JSON 으로 만든다.
+ * <p>
+ * 값마다 max-bytes 만큼만 버퍼에 쓰고, 넘치면 그 자리에서 직렬화를 중단한 뒤 잘린 앞부분에 표시를 붙여 반환한다.
+ * 필드 단위로 남은 예산을 확인하므로 큰 객체도 예산과 Jackson 내부 버퍼 크기를 넘어서까지 직렬화하지 않는다.
+ * redacted-fields 에 해당하는 필드는 같은 직렬화 과정에서 값 대신 마스킹 문자열로 쓴다.
+ * <p>
+ * 버퍼를 재사용하므로 한 스레드(소비 스레드)에서만 호출해야 한다.
+ */
+@Slf4j
+@Component
+public class AdminLogPayloadWriter {
+
+    static final String MASK = "****";
+    static final String TRUNCATED = "...(truncated)";
+    private static final byte[] SEPARATOR = ", ".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectWriter writer;
+    private final BudgetedOutputStream out;
+
+    @Autowired
+    public AdminLogPayloadWriter(
+            ObjectMapper objectMapper,
+            @Value("${admin-log.payload.max-bytes:2048}") int maxBytes,
+            @Value("${admin-log.payload.redacted-fields:password,oldPassword,newPassword,bearerToken,refreshToken}") String[] redactedFields
+    ) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("admin-log.payload.max-bytes must be positive");
+        }
+
+        ObjectMapper mapper = objectMapper.copy();
+        mapper.setSerializerFactory(mapper.getSerializerFactory()
+                .withSerializerModifier(new PayloadSerializerModifier(Set.copyOf(Arrays.asList(redactedFields)))));
+        this.writer = mapper.writer();
+        this.out = new BudgetedOutputStream(maxBytes);
+    }
+
+    // 인자들을 ", " 로 이어 붙인다. 예산은 인자 전체에 한 번 적용한다.
+    public String writeArgs(Object[] args) {
+        if (args == null || args.length == 0) {
+            return "";
+        }
+
+        out.reset();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) {
+                    out.write(SEPARATOR);
+                }
+                writeValue(args[i]);
+            }
+        } catch (IOException e) {
+            return failed(e);
+        }
+        return out.asString();
+    }
+
+    public String write(Object value) {
+        if (value == null) return "";
+
+        out.reset();
+        try {
+            writeValue(value);
+        } catch (IOException e) {
+            return failed(e);
+        }
+        return out.asString();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            writer.writeValue(generator, value);
+        }
+    }
+
+    private String failed(IOException e) {
+        if (out.exceeded) {
+            return out.asString() + TRUNCATED;
+        }
+        log.error("Error serializing object to JSON", e);
+        return "Error serializing object to JSON";
+    }
+
+    /**
+     * 필드를 쓰기 직전에 예산을 확인하고, 가려야 할 필드는 값을 직렬화하지 않고 마스킹한다.
+     */
+    private static final class PayloadSerializerModifier extends BeanSerializerModifier {
+
+        private final Set<String> redactedFields;
+
+        private PayloadSerializerModifier(Set<String> redactedFields) {
+            this.redactedFields = redactedFields;
+        }
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(
+                SerializationConfig config,
+                BeanDescription beanDesc,
+                List<BeanPropertyWriter> beanProperties
+        ) {
+            beanProperties.replaceAll(property -> new PayloadPropertyWriter(property, redactedFields.contains(property.getName())));
+            return beanProperties;
+        }
+    }
+
+    private static final class PayloadPropertyWriter extends BeanPropertyWriter {
+
+        private final boolean redacted;
+
+        private PayloadPropertyWriter(BeanPropertyWriter base, boolean redacted) {
+            super(base);
+            this.redacted = redacted;
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            if (gen.getOutputTarget() instanceof BudgetedOutputStream budget) {
+                budget.check(gen.getOutputBuffered());
+            }
+
+            if (redacted) {
+                gen.writeFieldName(_name);
+                gen.writeString(MASK);
+                return;
+            }
+            super.serializeAsField(bean, gen, prov);
+        }
+    }
+
+    /**
+     * 고정 크기 바이트 버퍼. 가득 차면 앞부분만 남기고 {@link BudgetExceededException} 을 한 번 던진다.
+     */
+    static final class BudgetedOutputStream extends OutputStream {
+
+        private final byte[] buffer;
+        private int count;
+        private boolean exceeded;
+
+        BudgetedOutputStream(int maxBytes) {
+            this.buffer = new byte[maxBytes];
+        }
+
+        void reset() {
+            count = 0;
+            exceeded = false;
+        }
+
+        // 생성기 내부에 아직 내려오지 않은 pending 바이트까지 합쳐 예산을 넘었는지 확인한다.
+        void check(int pending) throws BudgetExceededException {
+            if (count + (long) pending >= buffer.length) {
+                exceed();
+            }
+        }
+
+        // 한 번 넘친 뒤의 쓰기(생성기 close 시 flush 등)는 조용히 버린다.
+        @Override
+        public void write(int b) throws IOException {
+            if (exceeded) {
+                return;
+            }
+            if (count == buffer.length) {
+                exceed();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (exceeded) {
+                return;
+            }
+            int room = buffer.length - count;
+            if (len > room) {
+                System.arraycopy(b, off, buffer, count, room);
+                count = buffer.length;
+                exceed();
+            }
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        private void exceed() throws BudgetExceededException {
+            exceeded = true;
+            throw BudgetExceededException.INSTANCE;
+        }
+
+        // 잘린 위치가 UTF-8 문자 중간이면 그 문자는 버린다.
+        String asString() {
+            int end = count;
+            if (exceeded) {
+                int start = end;
+                while (start > 0 && (buffer[start - 1] & 0xC0) == 0x80) {
+                    start--;
+                }
+                if (start > 0 && (buffer[start - 1] & 0x80) != 0 && end - (start - 1) < sequenceLength(buffer[start - 1])) {
+                    end = start - 1;
+                }
+            }
+            return new String(buffer, 0, end, StandardCharsets.UTF_8);
+        }
+
+        private static int sequenceLength(byte lead) {
+            if ((lead & 0xE0) == 0xC0) return 2;
+            if ((lead & 0xF0) == 0xE0) return 3;
+            return 4;
+        }
+    }
+
+    // 흐름 제어용이므로 스택 트레이스를 만들지 않는다.
+    static final class BudgetExceededException extends IOException {
+
+        static final BudgetExceededException INSTANCE = new BudgetExceededException();
+
+        private BudgetExceededException() {
+            super("admin log payload budget exceeded");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.expert.config.adminlog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 락 없는 고정 크기 다중 생산자 / 단일 소비자 링 버퍼.
+ * <p>
+ * 칸마다 시퀀스 번호를 두어 생산자는 tail 에 대한 CAS 한 번으로 칸을 예약하고, 값을 쓴 뒤 시퀀스를 올려 소비자에게
+ * 공개한다. 소비자는 시퀀스가 올라간 칸만 꺼내므로 예약만 되고 아직 쓰이지 않은 칸을 읽지 않는다.
+ * {@link #drain} 은 한 스레드에서만 호출해야 한다.
+ */
+public final class AdminLogRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong(); // 소비자만 쓰고, size() 를 위해 원자적으로 공개한다.
+
+    public AdminLogRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        // 칸이 하나면 "비어 있음"과 "채워짐" 시퀀스가 겹치므로 최소 2칸
+        this.capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // 가득 차 있으면 false
+    public boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1); // 값이 쓰인 뒤에 공개
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            // difference > 0: 다른 생산자가 먼저 예약했으므로 다시 시도
+        }
+    }
+
+    // 최대 maxElements 개를 순서대로 꺼내 consumer 에 넘기고 꺼낸 개수를 반환한다.
+    public int drain(Consumer<? super E> consumer, int maxElements) {
+        long position = head.get();
+        int drained = 0;
+
+        while (drained < maxElements) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+
+            E element = slots.get(index);
+            slots.lazySet(index, null);
+            sequences.set(index, position + capacity); // 생산자에게 칸 반환
+            position++;
+            drained++;
+            consumer.accept(element);
+        }
+
+        head.lazySet(position);
+        return drained;
+    }
+
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
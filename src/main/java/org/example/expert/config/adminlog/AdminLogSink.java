@@ -0,0 +1,32 @@
+package org.example.expert.config.adminlog;
+
+import java.util.List;
+
+/**
+ * 소비 스레드가 모아 둔 이벤트를 한 번에 받아 기록한다.
+ * 항상 같은 스레드에서 호출되므로 구현체는 동기화하지 않아도 된다.
+ */
+public interface AdminLogSink {
+
+    void write(List<AdminLogEvent> batch);
+
+    /**
+     * 감사 기록처럼 이벤트를 하나도 잃으면 안 되는 sink 면 true.
+     * 하나라도 있으면 {@link AdminLogDispatcher} 는 DROP 정책이어도 버퍼가 가득 찼을 때 버리지 않고 기다린다.
+     */
+    default boolean requiresEveryEvent() {
+        return false;
+    }
+
+    /**
+     * 소비 스레드가 한 바퀴 돌 때마다(새 이벤트가 없어도) 호출된다. 자체 버퍼를 두는 구현체가 시간 기준으로 내보낼 때 쓴다.
+     */
+    default void poll() {
+    }
+
+    /**
+     * 종료 직전에 한 번 호출된다. 남은 내용을 모두 내보낸다.
+     */
+    default void flush() {
+    }
+}
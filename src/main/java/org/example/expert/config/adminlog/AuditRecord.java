@@ -0,0 +1,39 @@
+package org.example.expert.config.adminlog;
+
+import lombok.Getter;
+
+/**
+ * 감사 세그먼트 파일의 레코드 한 건.
+ */
+@Getter
+public class AuditRecord {
+
+    private final long requestTime; // epoch millis
+    private final Long userId;
+    private final String methodName;
+    private final String requestUri;
+    private final String requestBody;
+    private final boolean failed;
+    private final long durationNanos;
+    private final String errorMessage;
+
+    public AuditRecord(
+            long requestTime,
+            Long userId,
+            String methodName,
+            String requestUri,
+            String requestBody,
+            boolean failed,
+            long durationNanos,
+            String errorMessage
+    ) {
+        this.requestTime = requestTime;
+        this.userId = userId;
+        this.methodName = methodName;
+        this.requestUri = requestUri;
+        this.requestBody = requestBody;
+        this.failed = failed;
+        this.durationNanos = durationNanos;
+        this.errorMessage = errorMessage;
+    }
+}
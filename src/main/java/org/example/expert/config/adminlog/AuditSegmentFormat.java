@@ -0,0 +1,204 @@
+package org.example.expert.config.adminlog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 감사 세그먼트 파일 형식.
+ * <pre>
+ * 세그먼트 헤더 (24 bytes)
+ *   0  int   magic
+ *   4  int   version
+ *   8  long  minTime   세그먼트 안 레코드의 최소 requestTime (레코드가 없으면 Long.MAX_VALUE)
+ *   16 long  maxTime   최대 requestTime (레코드가 없으면 Long.MIN_VALUE)
+ *
+ * 레코드 (44 bytes 고정 헤더 + UTF-8 본문)
+ *   0  int   length    헤더를 포함한 전체 길이. 0 이면 그 뒤로는 아직 쓰이지 않은 영역
+ *   4  int   crc       CRC32C(8 ~ length)
+ *   8  long  requestTime
+ *   16 long  userId    (없으면 Long.MIN_VALUE)
+ *   24 long  durationNanos
+ *   32 byte  flags     bit0 = 실패
+ *   33 byte  (예약)
+ *   34 short methodName 길이
+ *   36 short requestUri 길이
+ *   38 short errorMessage 길이
+ *   40 int   requestBody 길이
+ *   44 ...   methodName, requestUri, requestBody, errorMessage
+ * </pre>
+ * length 를 가장 마지막에 쓰므로 읽는 쪽은 length 가 0 이 아니고 crc 가 맞는 레코드만 완성된 것으로 본다.
+ */
+final class AuditSegmentFormat {
+
+    static final int MAGIC = 0x41444C47; // "ADLG"
+    static final int VERSION = 1;
+
+    static final int SEGMENT_HEADER_SIZE = 24;
+    static final int MIN_TIME_OFFSET = 8;
+    static final int MAX_TIME_OFFSET = 16;
+
+    static final int RECORD_HEADER_SIZE = 44;
+    private static final int FLAG_FAILED = 1;
+    private static final long NO_USER = Long.MIN_VALUE;
+
+    private static final String FILE_PREFIX = "audit-";
+    private static final String FILE_SUFFIX = ".seg";
+
+    private AuditSegmentFormat() {
+    }
+
+    static String fileName(long segmentIndex) {
+        return String.format("%s%020d%s", FILE_PREFIX, segmentIndex, FILE_SUFFIX);
+    }
+
+    static long segmentIndex(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    // 파일 이름이 0 으로 채워진 고정 길이이므로 이름순 정렬이 곧 세그먼트 순서다.
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static void writeSegmentHeader(ByteBuffer buffer) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(MIN_TIME_OFFSET, Long.MAX_VALUE);
+        buffer.putLong(MAX_TIME_OFFSET, Long.MIN_VALUE);
+    }
+
+    static boolean hasValidHeader(ByteBuffer buffer) {
+        return buffer.limit() >= SEGMENT_HEADER_SIZE
+                && buffer.getInt(0) == MAGIC
+                && buffer.getInt(4) == VERSION;
+    }
+
+    static int encodedLength(byte[] methodName, byte[] requestUri, byte[] requestBody, byte[] errorMessage) {
+        return RECORD_HEADER_SIZE + methodName.length + requestUri.length + requestBody.length + errorMessage.length;
+    }
+
+    // position 에 레코드를 쓴다. buffer 에 length 만큼의 공간이 있어야 한다.
+    static void encode(ByteBuffer buffer, int position, AuditRecord record,
+                       byte[] methodName, byte[] requestUri, byte[] requestBody, byte[] errorMessage) {
+        int length = encodedLength(methodName, requestUri, requestBody, errorMessage);
+
+        buffer.putLong(position + 8, record.getRequestTime());
+        buffer.putLong(position + 16, record.getUserId() != null ? record.getUserId() : NO_USER);
+        buffer.putLong(position + 24, record.getDurationNanos());
+        buffer.put(position + 32, (byte) (record.isFailed() ? FLAG_FAILED : 0));
+        buffer.put(position + 33, (byte) 0);
+        buffer.putShort(position + 34, (short) methodName.length);
+        buffer.putShort(position + 36, (short) requestUri.length);
+        buffer.putShort(position + 38, (short) errorMessage.length);
+        buffer.putInt(position + 40, requestBody.length);
+
+        int offset = position + RECORD_HEADER_SIZE;
+        buffer.put(offset, methodName);
+        offset += methodName.length;
+        buffer.put(offset, requestUri);
+        offset += requestUri.length;
+        buffer.put(offset, requestBody);
+        offset += requestBody.length;
+        buffer.put(offset, errorMessage);
+
+        buffer.putInt(position + 4, crc(buffer, position + 8, position + length));
+        buffer.putInt(position, length); // 공개
+    }
+
+    /**
+     * position 의 레코드가 완성되어 있으면 그 길이를, 아직 쓰이지 않았거나 깨져 있으면 0 을 반환한다.
+     */
+    static int completeLength(ByteBuffer buffer, int position) {
+        if (position + RECORD_HEADER_SIZE > buffer.limit()) {
+            return 0;
+        }
+
+        int length = buffer.getInt(position);
+        if (length < RECORD_HEADER_SIZE || length > buffer.limit() - position) {
+            return 0;
+        }
+        if (buffer.getInt(position + 4) != crc(buffer, position + 8, position + length)) {
+            return 0;
+        }
+        return length;
+    }
+
+    static long requestTime(ByteBuffer buffer, int position) {
+        return buffer.getLong(position + 8);
+    }
+
+    static AuditRecord decode(ByteBuffer buffer, int position) {
+        long userId = buffer.getLong(position + 16);
+        int methodLength = Short.toUnsignedInt(buffer.getShort(position + 34));
+        int uriLength = Short.toUnsignedInt(buffer.getShort(position + 36));
+        int errorLength = Short.toUnsignedInt(buffer.getShort(position + 38));
+        int bodyLength = buffer.getInt(position + 40);
+
+        int offset = position + RECORD_HEADER_SIZE;
+        String methodName = string(buffer, offset, methodLength);
+        offset += methodLength;
+        String requestUri = string(buffer, offset, uriLength);
+        offset += uriLength;
+        String requestBody = string(buffer, offset, bodyLength);
+        offset += bodyLength;
+        String errorMessage = errorLength == 0 ? null : string(buffer, offset, errorLength);
+
+        return new AuditRecord(
+                requestTime(buffer, position),
+                userId == NO_USER ? null : userId,
+                methodName,
+                requestUri,
+                requestBody,
+                (buffer.get(position + 32) & FLAG_FAILED) != 0,
+                buffer.getLong(position + 24),
+                errorMessage
+        );
+    }
+
+    static byte[] bytes(String value, int maxLength) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= maxLength) {
+            return bytes;
+        }
+        // UTF-8 문자 중간에서 자르지 않는다.
+        int end = maxLength;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        byte[] truncated = new byte[end];
+        System.arraycopy(bytes, 0, truncated, 0, end);
+        return truncated;
+    }
+
+    private static String string(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int crc(ByteBuffer buffer, int from, int to) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(from, to - from));
+        return (int) crc.getValue();
+    }
+}
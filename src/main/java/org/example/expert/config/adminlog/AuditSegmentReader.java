@@ -0,0 +1,143 @@
+package org.example.expert.config.adminlog;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.example.expert.config.adminlog.AuditSegmentFormat.*;
+
+/**
+ * 감사 세그먼트 파일을 읽는다. 파일을 읽기 전용으로 매핑해 필요한 페이지만 읽어 들인다.
+ * <p>
+ * {@link #scan} 은 세그먼트 헤더(24바이트)만 먼저 읽어 최소/최대 시각이 겹치는 세그먼트만 매핑하고,
+ * {@link #tail} 은 이전에 읽은 위치부터 새로 쓰인 레코드만 읽는다. 쓰는 중인 세그먼트도 읽을 수 있으며,
+ * 그 세그먼트의 매핑은 다음 tail 호출에서 다시 쓴다. (매핑 해제는 GC 에 맡기므로 폴링마다 매핑을 만들지 않는다)
+ */
+public final class AuditSegmentReader {
+
+    private final Path directory;
+
+    // 마지막 tail 이 읽은 세그먼트의 매핑
+    private volatile MappedSegment tailSegment;
+
+    public AuditSegmentReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * requestTime 이 [from, to) 인 레코드를 세그먼트 순서대로 넘긴다.
+     * 레코드는 호출이 끝난 순서로 쓰이므로 한 세그먼트 안에서 requestTime 이 정렬되어 있지는 않다.
+     */
+    public void scan(long fromEpochMillis, long toEpochMillis, Consumer<AuditRecord> consumer) throws IOException {
+        for (Path file : listSegments(directory)) {
+            MappedByteBuffer segment;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer header = readHeader(channel);
+                if (!hasValidHeader(header)
+                        || header.getLong(MAX_TIME_OFFSET) < fromEpochMillis
+                        || header.getLong(MIN_TIME_OFFSET) >= toEpochMillis) {
+                    continue;
+                }
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+
+            int position = SEGMENT_HEADER_SIZE;
+            int length;
+            while ((length = completeLength(segment, position)) > 0) {
+                long requestTime = requestTime(segment, position);
+                if (requestTime >= fromEpochMillis && requestTime < toEpochMillis) {
+                    consumer.accept(decode(segment, position));
+                }
+                position += length;
+            }
+        }
+    }
+
+    /**
+     * from 이후에 쓰인 레코드를 모두 넘기고, 다음 호출에 넘길 위치를 반환한다.
+     */
+    public Position tail(Position from, Consumer<AuditRecord> consumer) throws IOException {
+        List<Path> segments = listSegments(directory);
+        Position current = from;
+
+        for (int i = 0; i < segments.size(); i++) {
+            Path file = segments.get(i);
+            long index = segmentIndex(file);
+            if (index < current.getSegmentIndex()) {
+                continue;
+            }
+
+            int position = index == current.getSegmentIndex() ? current.getOffset() : SEGMENT_HEADER_SIZE;
+            ByteBuffer segment = tailMapping(file, index);
+            if (hasValidHeader(segment)) {
+                int length;
+                while ((length = completeLength(segment, position)) > 0) {
+                    consumer.accept(decode(segment, position));
+                    position += length;
+                }
+            }
+            current = new Position(index, position);
+
+            // 다음 세그먼트가 있으면 이 세그먼트는 더 이상 쓰이지 않는다.
+            if (i + 1 < segments.size()) {
+                current = new Position(segmentIndex(segments.get(i + 1)), SEGMENT_HEADER_SIZE);
+            }
+        }
+        return current;
+    }
+
+    // 같은 세그먼트를 다시 읽을 때는 파일이 커지지 않았으면 이전 매핑을 쓴다. (쓰는 쪽은 세그먼트 크기만큼 미리 늘려 둔다)
+    private ByteBuffer tailMapping(Path file, long index) throws IOException {
+        MappedSegment cached = tailSegment;
+        if (cached != null && cached.index() == index && cached.buffer().limit() >= Files.size(file)) {
+            return cached.buffer();
+        }
+        MappedByteBuffer buffer = map(file);
+        tailSegment = new MappedSegment(index, buffer);
+        return buffer;
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static ByteBuffer readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                break;
+            }
+        }
+        return header.flip();
+    }
+
+    private record MappedSegment(long index, MappedByteBuffer buffer) {
+    }
+
+    /**
+     * tail 로 읽은 위치. (세그먼트 번호, 세그먼트 안의 바이트 위치)
+     */
+    @Getter
+    public static final class Position {
+
+        public static final Position START = new Position(0, SEGMENT_HEADER_SIZE);
+
+        private final long segmentIndex;
+        private final int offset;
+
+        public Position(long segmentIndex, int offset) {
+            this.segmentIndex = segmentIndex;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.expert.config.adminlog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.example.expert.config.adminlog.AuditSegmentFormat.*;
+
+/**
+ * 감사 레코드를 메모리 매핑된 세그먼트 파일 끝에 덧붙인다.
+ * <p>
+ * 세그먼트는 segment-size 크기로 미리 매핑하고, 다음 레코드가 들어갈 자리가 없으면 새 세그먼트로 넘어간다.
+ * 쓰기는 매핑된 메모리에 복사하는 것으로 끝나고(페이지 캐시에 남으므로 JVM 이 죽어도 유실되지 않는다),
+ * 디스크 동기화는 {@link #force()} 를 호출할 때만 한다.
+ * 재시작하면 마지막 세그먼트에서 완성된 레코드 다음 위치부터 이어 쓴다. (crc 가 맞지 않는 꼬리는 덮어쓴다)
+ * <p>
+ * 한 스레드에서만 사용해야 한다.
+ */
+@Slf4j
+public final class AuditSegmentWriter implements Closeable {
+
+    // 한 레코드의 문자열 필드 최대 바이트 (헤더의 길이 필드 크기에 맞춘다)
+    static final int MAX_SHORT_FIELD_BYTES = 0xFFFF;
+
+    private final Path directory;
+    private final int segmentSize;
+
+    private long segmentIndex;
+    private MappedByteBuffer segment;
+    private int position;
+    private boolean dirty;
+
+    public AuditSegmentWriter(Path directory, int segmentSize) throws IOException {
+        if (segmentSize <= SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("segment size too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        Files.createDirectories(directory);
+        List<Path> segments = listSegments(directory);
+        if (segments.isEmpty()) {
+            openNewSegment(0);
+        } else {
+            recover(segments.get(segments.size() - 1));
+        }
+    }
+
+    /**
+     * 레코드를 덧붙인다. 빈 세그먼트에도 들어가지 않는 크기면 쓰지 않고 false 를 반환한다.
+     */
+    public boolean append(AuditRecord record) throws IOException {
+        byte[] methodName = bytes(record.getMethodName(), MAX_SHORT_FIELD_BYTES);
+        byte[] requestUri = bytes(record.getRequestUri(), MAX_SHORT_FIELD_BYTES);
+        byte[] errorMessage = bytes(record.getErrorMessage(), MAX_SHORT_FIELD_BYTES);
+        byte[] requestBody = bytes(record.getRequestBody(), Integer.MAX_VALUE);
+
+        int length = encodedLength(methodName, requestUri, requestBody, errorMessage);
+        if (length > segmentSize - SEGMENT_HEADER_SIZE) {
+            return false;
+        }
+        if (length > segment.limit() - position) {
+            roll();
+        }
+
+        // scan 이 헤더의 범위로 세그먼트를 건너뛰므로, 레코드가 공개(length 기록)되기 전에 범위부터 넓힌다.
+        widenTimeRange(segment, record.getRequestTime());
+        encode(segment, position, record, methodName, requestUri, requestBody, errorMessage);
+        position += length;
+        dirty = true;
+        return true;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void force() {
+        if (dirty) {
+            segment.force();
+            dirty = false;
+        }
+    }
+
+    long currentSegmentIndex() {
+        return segmentIndex;
+    }
+
+    int position() {
+        return position;
+    }
+
+    @Override
+    public void close() {
+        force();
+        segment = null; // 매핑 해제는 GC 에 맡긴다.
+    }
+
+    private void roll() throws IOException {
+        force();
+        openNewSegment(segmentIndex + 1);
+    }
+
+    private void openNewSegment(long index) throws IOException {
+        Path file = directory.resolve(fileName(index));
+        segment = map(file, segmentSize);
+        writeSegmentHeader(segment);
+        segmentIndex = index;
+        position = SEGMENT_HEADER_SIZE;
+        dirty = true;
+    }
+
+    private void recover(Path file) throws IOException {
+        long index = segmentIndex(file);
+        int size = (int) Math.max(Files.size(file), segmentSize);
+        MappedByteBuffer mapped = map(file, size);
+
+        if (!hasValidHeader(mapped)) {
+            // 헤더조차 쓰이지 않은 세그먼트는 처음부터 다시 쓴다.
+            log.warn("감사 세그먼트 헤더가 올바르지 않아 새로 초기화합니다: {}", file);
+            segment = mapped;
+            writeSegmentHeader(segment);
+            segmentIndex = index;
+            position = SEGMENT_HEADER_SIZE;
+            dirty = true;
+            return;
+        }
+
+        // 헤더의 최소/최대 시각은 남은 레코드로 다시 계산한다. (크래시 때 헤더 페이지만 반영되지 않았을 수 있다)
+        long minTime = Long.MAX_VALUE;
+        long maxTime = Long.MIN_VALUE;
+        int end = SEGMENT_HEADER_SIZE;
+        int length;
+        while ((length = completeLength(mapped, end)) > 0) {
+            long requestTime = requestTime(mapped, end);
+            minTime = Math.min(minTime, requestTime);
+            maxTime = Math.max(maxTime, requestTime);
+            end += length;
+        }
+        mapped.putLong(MIN_TIME_OFFSET, minTime);
+        mapped.putLong(MAX_TIME_OFFSET, maxTime);
+        // 깨진 꼬리가 남아 있으면 읽는 쪽이 이어서 읽지 않도록 length 를 지운다.
+        if (end + Integer.BYTES <= mapped.limit()) {
+            mapped.putInt(end, 0);
+        }
+
+        segment = mapped;
+        segmentIndex = index;
+        position = end;
+        dirty = true;
+    }
+
+    private static void widenTimeRange(MappedByteBuffer segment, long requestTime) {
+        if (requestTime < segment.getLong(MIN_TIME_OFFSET)) {
+            segment.putLong(MIN_TIME_OFFSET, requestTime);
+        }
+        if (requestTime > segment.getLong(MAX_TIME_OFFSET)) {
+            segment.putLong(MAX_TIME_OFFSET, requestTime);
+        }
+    }
+
+    private static MappedByteBuffer map(Path file, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+}
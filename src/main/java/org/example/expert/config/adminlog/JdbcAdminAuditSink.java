@@ -0,0 +1,137 @@
+package org.example.expert.config.adminlog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 API 호출을 admin_audit 테이블에 남기는 write-behind sink.
+ * <p>
+ * 받은 이벤트를 행으로 바꿔 모아 두었다가 flush-size 개가 모이거나 가장 오래된 행이 flush-interval 을 넘기면
+ * JDBC 배치 INSERT 한 번으로 내보낸다. 소비 스레드에서만 호출되므로 요청 처리에는 DB 왕복이 추가되지 않는다.
+ * INSERT 가 실패한 배치는 로그만 남기고 버린다. (버퍼가 무한히 커지지 않도록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "admin-log.audit.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcAdminAuditSink implements AdminLogSink {
+
+    static final String INSERT_SQL = "INSERT INTO admin_audit " +
+            "(requested_at, user_id, method_name, request_uri, request_body, success, duration_ms, error_message) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int METHOD_NAME_LENGTH = 100;
+    private static final int REQUEST_URI_LENGTH = 255;
+    private static final int REQUEST_BODY_LENGTH = 4000;
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AdminLogPayloadWriter payloadWriter;
+    private final int flushSize;
+    private final long flushIntervalMillis;
+    private final Clock clock;
+    private List<Object[]> pending;
+    private long oldestPendingAt;
+
+    @Autowired
+    public JdbcAdminAuditSink(
+            JdbcTemplate jdbcTemplate,
+            AdminLogPayloadWriter payloadWriter,
+            @Value("${admin-log.audit.flush-size:100}") int flushSize,
+            @Value("${admin-log.audit.flush-interval:1s}") Duration flushInterval
+    ) {
+        this(jdbcTemplate, payloadWriter, flushSize, flushInterval, Clock.systemDefaultZone());
+    }
+
+    JdbcAdminAuditSink(
+            JdbcTemplate jdbcTemplate,
+            AdminLogPayloadWriter payloadWriter,
+            int flushSize,
+            Duration flushInterval,
+            Clock clock
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.payloadWriter = payloadWriter;
+        this.flushSize = flushSize;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.clock = clock;
+        this.pending = new ArrayList<>(flushSize);
+    }
+
+    @Override
+    public void write(List<AdminLogEvent> batch) {
+        if (pending.isEmpty()) {
+            oldestPendingAt = clock.millis();
+        }
+
+        for (AdminLogEvent event : batch) {
+            pending.add(toRow(event));
+            if (pending.size() >= flushSize) {
+                flush();
+                oldestPendingAt = clock.millis();
+            }
+        }
+    }
+
+    @Override
+    public boolean requiresEveryEvent() {
+        return true;
+    }
+
+    @Override
+    public void poll() {
+        if (!pending.isEmpty() && clock.millis() - oldestPendingAt >= flushIntervalMillis) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, pending, new int[]{
+                    Types.TIMESTAMP, Types.BIGINT, Types.VARCHAR, Types.VARCHAR,
+                    Types.VARCHAR, Types.BOOLEAN, Types.BIGINT, Types.VARCHAR
+            });
+        } catch (Exception e) {
+            log.error("관리자 감사 기록 저장 실패: size={}", pending.size(), e);
+        } finally {
+            pending = new ArrayList<>(flushSize);
+        }
+    }
+
+    int pendingSize() {
+        return pending.size();
+    }
+
+    private Object[] toRow(AdminLogEvent event) {
+        return new Object[]{
+                new Timestamp(event.getRequestTime()),
+                event.getUserId(),
+                truncate(event.getMethodName(), METHOD_NAME_LENGTH),
+                truncate(event.getRequestURI(), REQUEST_URI_LENGTH),
+                truncate(event.requestBody(payloadWriter), REQUEST_BODY_LENGTH),
+                !event.isFailed(),
+                TimeUnit.NANOSECONDS.toMillis(event.getDurationNanos()),
+                truncate(event.getErrorMessage(), ERROR_MESSAGE_LENGTH)
+        };
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+}
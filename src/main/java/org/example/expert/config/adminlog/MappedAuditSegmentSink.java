@@ -0,0 +1,104 @@
+package org.example.expert.config.adminlog;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 관리자 API 호출을 메모리 매핑된 세그먼트 파일에 남기는 sink. DB 없이 감사 기록을 남길 노드에서 켠다.
+ * <p>
+ * 쓰기는 매핑된 메모리에 복사하는 것뿐이고, 디스크 동기화(force)는 force-interval 마다 소비 스레드에서 한다.
+ * 기록은 {@link AuditSegmentReader} 로 읽는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "admin-log.segment.enabled", havingValue = "true")
+public class MappedAuditSegmentSink implements AdminLogSink {
+
+    private final AuditSegmentWriter writer;
+    private final AdminLogPayloadWriter payloadWriter;
+    private final long forceIntervalMillis;
+    private final Clock clock;
+    private long lastForcedAt;
+
+    @Autowired
+    public MappedAuditSegmentSink(
+            AdminLogPayloadWriter payloadWriter,
+            @Value("${admin-log.segment.directory:admin-audit}") Path directory,
+            @Value("${admin-log.segment.segment-size:64MB}") DataSize segmentSize,
+            @Value("${admin-log.segment.force-interval:1s}") Duration forceInterval
+    ) throws IOException {
+        this(new AuditSegmentWriter(directory, Math.toIntExact(segmentSize.toBytes())), payloadWriter, forceInterval, Clock.systemDefaultZone());
+    }
+
+    MappedAuditSegmentSink(AuditSegmentWriter writer, AdminLogPayloadWriter payloadWriter, Duration forceInterval, Clock clock) {
+        this.writer = writer;
+        this.payloadWriter = payloadWriter;
+        this.forceIntervalMillis = forceInterval.toMillis();
+        this.clock = clock;
+        this.lastForcedAt = clock.millis();
+    }
+
+    @Override
+    public void write(List<AdminLogEvent> batch) {
+        try {
+            for (AdminLogEvent event : batch) {
+                if (!writer.append(toRecord(event))) {
+                    log.warn("감사 레코드가 세그먼트 크기보다 커서 기록하지 않습니다: methodName={}, requestURI={}",
+                            event.getMethodName(), event.getRequestURI());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean requiresEveryEvent() {
+        return true;
+    }
+
+    @Override
+    public void poll() {
+        long now = clock.millis();
+        if (writer.isDirty() && now - lastForcedAt >= forceIntervalMillis) {
+            writer.force();
+            lastForcedAt = now;
+        }
+    }
+
+    @Override
+    public void flush() {
+        writer.force();
+    }
+
+    // AdminLogDispatcher 가 먼저 종료(flush)된 뒤에 호출된다.
+    @PreDestroy
+    public void close() {
+        writer.close();
+    }
+
+    private AuditRecord toRecord(AdminLogEvent event) {
+        return new AuditRecord(
+                event.getRequestTime(),
+                event.getUserId(),
+                event.getMethodName(),
+                event.getRequestURI(),
+                event.requestBody(payloadWriter),
+                event.isFailed(),
+                event.getDurationNanos(),
+                event.getErrorMessage()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.expert.config.adminlog;
+
+/**
+ * 링 버퍼가 가득 찼을 때의 동작
+ */
+public enum OverflowPolicy {
+    // 이벤트를 버리고 admin.log.dropped 카운터를 올린다. 요청 스레드는 기다리지 않는다.
+    DROP,
+    // 빈 칸이 생길 때까지 요청 스레드가 기다린다. 로그 유실은 없지만 소비가 밀리면 요청 지연으로 이어진다.
+    BLOCK
+}
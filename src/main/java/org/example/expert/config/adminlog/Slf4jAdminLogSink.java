@@ -0,0 +1,71 @@
+package org.example.expert.config.adminlog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 API 로그를 애플리케이션 로그로 남긴다. 직렬화는 소비 스레드에서 {@link AdminLogPayloadWriter} 로 한다.
+ * 성공한 호출은 이벤트의 sampleRate 비율만큼만 남기고, 실패한 호출은 항상 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class Slf4jAdminLogSink implements AdminLogSink {
+
+    private final AdminLogPayloadWriter payloadWriter;
+
+    @Override
+    public void write(List<AdminLogEvent> batch) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+
+        for (AdminLogEvent event : batch) {
+            if (!event.isFailed() && !isSampled(event.getSampleRate())) {
+                continue;
+            }
+
+            String methodName = event.getMethodName();
+            String requestURI = event.getRequestURI();
+            LocalDateTime requestTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(event.getRequestTime()), ZoneId.systemDefault());
+
+            log.info(
+                    "REQUEST INFO: methodName = {}, userId = {}, requestTime = {}, requestURI = {}, requestBody = {}",
+                    methodName,
+                    event.getUserId(),
+                    requestTime,
+                    requestURI,
+                    event.requestBody(payloadWriter)
+            );
+
+            if (event.isFailed()) {
+                log.error(
+                        "ERROR: methodName = {}, requestURI = {}, message = {}",
+                        methodName,
+                        requestURI,
+                        event.getErrorMessage()
+                );
+            } else {
+                log.info(
+                        "RESPONSE INFO: methodName = {}, requestURI = {}, responseBody = {}, elapsed = {}ms",
+                        methodName,
+                        requestURI,
+                        payloadWriter.write(event.getResult()),
+                        TimeUnit.NANOSECONDS.toMillis(event.getDurationNanos())
+                );
+            }
+        }
+    }
+
+    private static boolean isSampled(double sampleRate) {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.audit.entity.AdminAudit;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AdminAuditResponse {
+
+    private final Long id;
+    private final LocalDateTime requestedAt;
+    private final Long userId;
+    private final String methodName;
+    private final String requestUri;
+    private final String requestBody;
+    private final boolean success;
+    private final long durationMs;
+    private final String errorMessage;
+
+    public AdminAuditResponse(Long id, LocalDateTime requestedAt, Long userId, String methodName, String requestUri, String requestBody, boolean success, long durationMs, String errorMessage) {
+        this.id = id;
+        this.requestedAt = requestedAt;
+        this.userId = userId;
+        this.methodName = methodName;
+        this.requestUri = requestUri;
+        this.requestBody = requestBody;
+        this.success = success;
+        this.durationMs = durationMs;
+        this.errorMessage = errorMessage;
+    }
+
+    public static AdminAuditResponse from(AdminAudit audit) {
+        return new AdminAuditResponse(
+                audit.getId(),
+                audit.getRequestedAt(),
+                audit.getUserId(),
+                audit.getMethodName(),
+                audit.getRequestUri(),
+                audit.getRequestBody(),
+                audit.isSuccess(),
+                audit.getDurationMs(),
+                audit.getErrorMessage()
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 API 호출 기록 (조회 전용). 저장은 JdbcAdminAuditSink 가 JDBC 배치로 한다.
+ */
+@Getter
+@Entity
+@Immutable
+@NoArgsConstructor
+@Table(name = "admin_audit")
+public class AdminAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime requestedAt;
+
+    private Long userId;
+
+    @Column(nullable = false, length = 100)
+    private String methodName;
+
+    @Column(nullable = false)
+    private String requestUri;
+
+    @Column(length = 4000)
+    private String requestBody;
+
+    @Column(nullable = false)
+    private boolean success;
+
+    @Column(nullable = false)
+    private long durationMs;
+
+    @Column(length = 500)
+    private String errorMessage;
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.entity.AdminAudit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+public interface AdminAuditRepository extends JpaRepository<AdminAudit, Long>, JpaSpecificationExecutor<AdminAudit> {
+}
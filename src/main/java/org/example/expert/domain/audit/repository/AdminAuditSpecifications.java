@@ -0,0 +1,38 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.entity.AdminAudit;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 기록 조회 조건. 값이 null 이면 조건을 걸지 않는다.
+ * URI 는 접두사 일치(LIKE 'uri%')로 찾아 (request_uri, requested_at) 인덱스를 탈 수 있게 한다.
+ */
+public final class AdminAuditSpecifications {
+
+    private AdminAuditSpecifications() {
+    }
+
+    public static Specification<AdminAudit> userIdEquals(Long userId) {
+        return (root, query, cb) -> userId == null ? null : cb.equal(root.get("userId"), userId);
+    }
+
+    public static Specification<AdminAudit> requestUriStartsWith(String requestUri) {
+        return (root, query, cb) -> requestUri == null || requestUri.isBlank()
+                ? null
+                : cb.like(root.get("requestUri"), escapeLike(requestUri) + "%", '\\');
+    }
+
+    public static Specification<AdminAudit> requestedAtFrom(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("requestedAt"), from);
+    }
+
+    public static Specification<AdminAudit> requestedAtBefore(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("requestedAt"), to);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.audit.entity.AdminAudit;
+import org.example.expert.domain.audit.repository.AdminAuditRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.example.expert.domain.audit.repository.AdminAuditSpecifications.*;
+
+@Service
+@RequiredArgsConstructor
+public class AdminAuditService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("requestedAt"), Sort.Order.desc("id"));
+
+    private final AdminAuditRepository adminAuditRepository;
+
+    @Transactional(readOnly = true)
+    public Page<AdminAuditResponse> getAudits(Long userId, String requestUri, LocalDateTime from, LocalDateTime to, int page, int size) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidRequestException("조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+
+        Specification<AdminAudit> spec = Specification.where(userIdEquals(userId))
+                .and(requestUriStartsWith(requestUri))
+                .and(requestedAtFrom(from))
+                .and(requestedAtBefore(to));
+        Pageable pageable = PageRequest.of(Math.max(page, 1) - 1, Math.min(Math.max(size, 1), MAX_PAGE_SIZE), LATEST_FIRST);
+
+        return adminAuditRepository.findAll(spec, pageable)
+                .map(AdminAuditResponse::from);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "user_token_watermarks")
+public class UserTokenWatermark {
+
+    @Id
+    private Long userId;
+
+    // 이 시각 이전에 발급된 토큰은 거부한다.
+    @Column(nullable = false)
+    private LocalDateTime revokedBefore;
+
+    // 기준 시각 이전에 발급된 토큰이 모두 만료되는 시각
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public UserTokenWatermark(Long userId, LocalDateTime revokedBefore, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.revokedBefore = revokedBefore;
+        this.expiresAt = expiresAt;
+    }
+
+    public void update(LocalDateTime revokedBefore, LocalDateTime expiresAt) {
+        this.revokedBefore = revokedBefore;
+        this.expiresAt = expiresAt;
+    }
+}
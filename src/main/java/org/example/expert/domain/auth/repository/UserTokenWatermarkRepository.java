@@ -0,0 +1,19 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.UserTokenWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserTokenWatermarkRepository extends JpaRepository<UserTokenWatermark, Long> {
+
+    List<UserTokenWatermark> findAllByExpiresAtAfter(LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM UserTokenWatermark w WHERE w.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,12 +1,16 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.VerifiedToken;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
@@ -22,6 +26,8 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -42,11 +48,13 @@ public class AuthService {
         User savedUser = userRepository.save(newUser);
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String refreshToken = refreshTokenService.issue(savedUser.getId(), savedUser.getEmail(), userRole);
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
-    @Transactional(readOnly = true)
+    // BCrypt 검증/재해싱 동안 DB 커넥션을 점유하지 않도록 트랜잭션을 열지 않는다.
+    // 조회와 저장은 각각 리포지토리의 짧은 트랜잭션에서만 처리한다.
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -56,8 +64,42 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 저장된 해시의 cost 가 현재 설정보다 낮으면 평문을 알고 있는 지금 다시 해싱한다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            String rehashed = passwordEncoder.encode(signinRequest.getPassword());
+            userRepository.updatePassword(user.getId(), user.getPassword(), rehashed);
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = refreshTokenService.issue(user.getId(), user.getEmail(), user.getUserRole());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    // 비밀번호 검증 없이 리프레시 토큰 조회 1회 + HMAC 서명으로 토큰을 재발급한다.
+    @Transactional
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        VerifiedToken owner = refreshTokenService.consume(tokenRefreshRequest.getRefreshToken());
 
-        return new SigninResponse(bearerToken);
+        String bearerToken = jwtUtil.createToken(owner.getUserId(), owner.getEmail(), owner.getUserRole());
+        String refreshToken = refreshTokenService.issue(owner.getUserId(), owner.getEmail(), owner.getUserRole());
+
+        return new TokenRefreshResponse(bearerToken, refreshToken);
+    }
+
+    // JwtFilter 가 이미 인증한 요청이지만 AuthUser 에는 무효화에 필요한 jti / 만료 시각이 없으므로 헤더의 토큰을 다시 읽는다.
+    // 로그아웃은 드물어 서명 검증 한 번을 더 하는 비용보다 모든 요청에 토큰 속성을 하나 더 싣지 않는 쪽을 택했다.
+    // 리프레시 토큰은 액세스 토큰과 묶여 있지 않아 어느 것이 이 세션의 것인지 알 수 없으므로 사용자의 리프레시 토큰을 모두 폐기한다.
+    // (다른 기기는 지금 가진 액세스 토큰이 만료되면 다시 로그인해야 한다)
+    @Transactional
+    public void signout(String bearerToken) {
+        VerifiedToken token;
+        try {
+            token = jwtUtil.verifyToken(jwtUtil.substringToken(bearerToken));
+        } catch (JwtException e) {
+            throw new AuthException("유효하지 않은 토큰입니다.");
+        }
+        tokenRevocationStore.revoke(token);
+        refreshTokenService.revokeAll(token.getUserId());
     }
 }
@@ -0,0 +1,130 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.VerifiedToken;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.common.cache.BoundedCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * 불투명(opaque) 리프레시 토큰 발급 / 소비.
+ * <p>
+ * 토큰은 한 번만 사용할 수 있으며(rotation), DB 에는 SHA-256 해시만 저장한다.
+ * 발급한 토큰의 사용자 정보는 메모리 캐시에 함께 올려 두어 재발급 시 사용자 조회를 생략한다.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final Duration expiration;
+    private final Clock clock;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final BoundedCache<String, VerifiedToken> cache;
+
+    @Autowired
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            @Value("${jwt.refresh.expiration:14d}") Duration expiration,
+            @Value("${jwt.refresh.cache.maximum-size:10000}") int cacheMaximumSize
+    ) {
+        this(refreshTokenRepository, userRepository, expiration, cacheMaximumSize, Clock.systemDefaultZone());
+    }
+
+    RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            Duration expiration,
+            int cacheMaximumSize,
+            Clock clock
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.expiration = expiration;
+        this.clock = clock;
+        this.cache = new BoundedCache<>(cacheMaximumSize, clock);
+    }
+
+    @Transactional
+    public String issue(Long userId, String email, UserRole userRole) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String tokenHash = hash(token);
+
+        LocalDateTime expiresAt = LocalDateTime.now(clock).plus(expiration);
+        User user = userRepository.getReferenceById(userId);
+        refreshTokenRepository.save(new RefreshToken(tokenHash, user, expiresAt));
+
+        cache.put(tokenHash, new VerifiedToken(userId, email, userRole, toEpochMillis(expiresAt)), toEpochMillis(expiresAt));
+        return token;
+    }
+
+    // 토큰을 검증하고 즉시 폐기한다. 이미 사용됐거나 만료된 토큰이면 AuthException
+    @Transactional
+    public VerifiedToken consume(String token) {
+        String tokenHash = hash(token);
+
+        VerifiedToken owner = cache.get(tokenHash);
+        if (owner == null) {
+            owner = refreshTokenRepository.findByTokenHashWithUser(tokenHash)
+                    .map(this::toVerifiedToken)
+                    .orElse(null);
+        }
+        if (owner == null || owner.getExpiresAt() <= clock.millis()) {
+            throw new AuthException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        cache.invalidate(tokenHash);
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0) {
+            throw new AuthException("이미 사용된 리프레시 토큰입니다.");
+        }
+        return owner;
+    }
+
+    // 사용자의 리프레시 토큰을 모두 폐기한다. 캐시에 남은 항목은 consume 의 삭제 건수 확인에서 거부된다.
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    private VerifiedToken toVerifiedToken(RefreshToken refreshToken) {
+        User user = refreshToken.getUser();
+        return new VerifiedToken(user.getId(), user.getEmail(), user.getUserRole(), toEpochMillis(refreshToken.getExpiresAt()));
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static String hash(String token) {
+        return HexFormat.of().formatHex(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
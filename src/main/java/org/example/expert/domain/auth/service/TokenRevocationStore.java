@@ -0,0 +1,167 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.VerifiedToken;
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.example.expert.domain.auth.entity.UserTokenWatermark;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.auth.repository.RevokedTokenRepository;
+import org.example.expert.domain.auth.repository.UserTokenWatermarkRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전 JWT 무효화 저장소.
+ * <p>
+ * 사용자별 "이 시각 이전 발급 토큰 거부" 기준 시각과 jti 거부 목록을 DB 에 저장하고, 같은 내용을 메모리에도
+ * 올려 두어 요청마다 DB 조회 없이 {@link #isRevoked(VerifiedToken)} 를 해시 조회 두 번으로 처리한다.
+ * 각 항목은 원래 토큰이 만료되는 시각까지만 유지되며, 주기적으로 DB 와 다시 맞추면서 만료된 항목을 정리한다.
+ * 다른 인스턴스에서 등록한 무효화는 다음 동기화 주기에 반영된다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationStore {
+
+    private final UserTokenWatermarkRepository watermarkRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Clock clock;
+
+    // userId -> 기준 시각
+    private final Map<Long, Watermark> watermarks = new ConcurrentHashMap<>();
+    // jti -> 원래 토큰의 만료 시각(epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TokenRevocationStore(
+            UserTokenWatermarkRepository watermarkRepository,
+            RevokedTokenRepository revokedTokenRepository,
+            RefreshTokenRepository refreshTokenRepository
+    ) {
+        this(watermarkRepository, revokedTokenRepository, refreshTokenRepository, Clock.systemDefaultZone());
+    }
+
+    TokenRevocationStore(
+            UserTokenWatermarkRepository watermarkRepository,
+            RevokedTokenRepository revokedTokenRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            Clock clock
+    ) {
+        this.watermarkRepository = watermarkRepository;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.clock = clock;
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.getJti() != null && revokedTokens.containsKey(token.getJti())) {
+            return true;
+        }
+
+        Watermark watermark = watermarks.get(token.getUserId());
+        return watermark != null && token.getIssuedAt() < watermark.revokedBefore;
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 모든 액세스 토큰과 리프레시 토큰을 무효화한다.
+     * <p>
+     * JWT 의 iat 는 초 단위이므로 기준 시각을 다음 초로 올린다. 무효화 직후 같은 초 안에 새로 발급된 토큰도
+     * 거부될 수 있지만, 무효화 직전에 발급된 토큰이 살아남는 것보다 안전하다.
+     */
+    @Transactional
+    public void revokeAllIssuedBefore(Long userId) {
+        long revokedBefore = ceilToSecond(clock.millis());
+        long expiresAt = revokedBefore + JwtUtil.TOKEN_TIME;
+
+        UserTokenWatermark watermark = watermarkRepository.findById(userId).orElse(null);
+        if (watermark == null) {
+            watermarkRepository.save(new UserTokenWatermark(userId, toLocalDateTime(revokedBefore), toLocalDateTime(expiresAt)));
+        } else {
+            watermark.update(toLocalDateTime(revokedBefore), toLocalDateTime(expiresAt));
+        }
+        refreshTokenRepository.deleteByUserId(userId);
+
+        // 트랜잭션이 롤백되더라도 더 많이 거부하는 쪽이므로 메모리에는 바로 반영한다.
+        watermarks.merge(userId, new Watermark(revokedBefore, expiresAt), Watermark::later);
+    }
+
+    // 토큰 하나만 무효화한다. (로그아웃)
+    @Transactional
+    public void revoke(VerifiedToken token) {
+        if (token.getJti() == null || token.getExpiresAt() <= clock.millis()) {
+            return;
+        }
+
+        revokedTokenRepository.save(new RevokedToken(token.getJti(), toLocalDateTime(token.getExpiresAt())));
+        revokedTokens.put(token.getJti(), token.getExpiresAt());
+    }
+
+    // 시작 시 한 번 동기적으로 불러오고, 이후에는 주기적으로 다시 맞춘다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void onApplicationReady() {
+        reload();
+    }
+
+    // 만료된 항목을 정리하고 다른 인스턴스에서 등록한 무효화를 가져온다.
+    @Scheduled(
+            initialDelayString = "${jwt.revocation.reload-interval:PT30S}",
+            fixedDelayString = "${jwt.revocation.reload-interval:PT30S}"
+    )
+    @Transactional
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        long nowMillis = toEpochMillis(now);
+
+        int purged = watermarkRepository.deleteExpired(now)
+                + revokedTokenRepository.deleteExpired(now)
+                + refreshTokenRepository.deleteExpired(now);
+        if (purged > 0) {
+            log.info("만료된 토큰 무효화/리프레시 토큰 정리: {}건", purged);
+        }
+
+        for (UserTokenWatermark watermark : watermarkRepository.findAllByExpiresAtAfter(now)) {
+            watermarks.merge(
+                    watermark.getUserId(),
+                    new Watermark(toEpochMillis(watermark.getRevokedBefore()), toEpochMillis(watermark.getExpiresAt())),
+                    Watermark::later
+            );
+        }
+        for (RevokedToken revokedToken : revokedTokenRepository.findAllByExpiresAtAfter(now)) {
+            revokedTokens.putIfAbsent(revokedToken.getJti(), toEpochMillis(revokedToken.getExpiresAt()));
+        }
+
+        watermarks.values().removeIf(watermark -> watermark.expiresAt <= nowMillis);
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+    }
+
+    private static long ceilToSecond(long epochMillis) {
+        return Math.floorDiv(epochMillis + 999, 1000) * 1000;
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), clock.getZone());
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private record Watermark(long revokedBefore, long expiresAt) {
+
+        private static Watermark later(Watermark a, Watermark b) {
+            return a.revokedBefore >= b.revokedBefore ? a : b;
+        }
+    }
+}
@@ -3,10 +3,13 @@ package org.example.expert.domain.comment.controller;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.aop.LogAdmin;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.common.annotation.Access;
+import org.example.expert.domain.common.enums.AccessLevel;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
+@Access(AccessLevel.ADMIN)
 @RestController
 @RequiredArgsConstructor
 public class CommentAdminController {
@@ -8,8 +8,11 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPage;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -32,4 +35,23 @@ public class CommentController {
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    // cursor 파라미터가 있으면 키셋 페이징으로 처리한다. (첫 페이지는 빈 값)
+    @GetMapping(value = "/todos/{todoId}/comments", params = "cursor")
+    public ResponseEntity<CursorPage<CommentResponse>> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
+    }
+
+    // stream=true 이면 전체 댓글을 페이지 단위로 읽는 대로 응답에 흘려 보낸다.
+    @GetMapping(value = "/todos/{todoId}/comments", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable long todoId) {
+        StreamingResponseBody body = outputStream -> commentService.streamComments(todoId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
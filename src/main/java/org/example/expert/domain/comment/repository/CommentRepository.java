@@ -1,14 +1,37 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    String COMMENT_RESPONSE = "SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(" +
+            "c.id, c.contents, u.id, u.email, c.createdAt) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId ";
+
+    @Query(COMMENT_RESPONSE + "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // 커서 기반 조회: (createdAt, id) 오름차순 키셋
+    @Query(COMMENT_RESPONSE + "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId, Limit limit);
+
+    @Query(COMMENT_RESPONSE +
+            "AND c.createdAt >= :createdAt " +
+            "AND (c.createdAt > :createdAt OR c.id > :id) " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findResponsesByTodoIdAfterCursor(
+            @Param("todoId") Long todoId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
 }
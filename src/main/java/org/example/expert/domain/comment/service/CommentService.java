@@ -1,5 +1,7 @@
 package org.example.expert.domain.comment.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
@@ -7,22 +9,30 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPage;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.service.TodoReader;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    static final int STREAM_PAGE_SIZE = 500;
+
     private final CommentRepository commentRepository;
     private final TodoReader todoReader;
+    private final ObjectMapper objectMapper;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -46,18 +56,65 @@ public class CommentService {
 
     @Transactional(readOnly = true)
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+        return commentRepository.findResponsesByTodoId(todoId);
+    }
+
+    // size + 1 건을 읽어 다음 페이지 존재 여부를 판단한다.
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponse> getCommentsByCursor(long todoId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<CommentResponse> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findResponsesByTodoId(todoId, limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            comments = commentRepository.findResponsesByTodoIdAfterCursor(
+                    todoId, keysetCursor.getTimestamp(), keysetCursor.getId(), limit);
+        }
+
+        boolean hasNext = comments.size() > pageSize;
+        if (hasNext) {
+            comments = comments.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentResponse last = comments.get(comments.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorPage<>(comments, pageSize, hasNext, nextCursor);
+    }
+
+    // 키셋 커서로 STREAM_PAGE_SIZE 건씩 읽어 JSON 배열로 바로 써서 전체 목록을 메모리에 올리지 않는다.
+    // 페이지마다 리포지토리의 짧은 읽기 트랜잭션만 열고 클라이언트에 쓰는 동안에는 커넥션을 잡지 않으므로,
+    // 느리게 읽는 클라이언트가 커넥션을 붙잡고 있지 못한다. 대신 페이지마다 다른 시점을 읽으므로
+    // 스트리밍 도중 추가/삭제된 댓글은 들어가거나 빠질 수 있다. (키셋 순서라 중복되거나 순서가 바뀌지는 않는다)
+    public void streamComments(long todoId, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫는다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+
+            Limit limit = Limit.of(STREAM_PAGE_SIZE);
+            List<CommentResponse> page = commentRepository.findResponsesByTodoId(todoId, limit);
+            while (!page.isEmpty()) {
+                for (CommentResponse comment : page) {
+                    generator.writeObject(comment);
+                }
+                generator.flush();
+
+                if (page.size() < STREAM_PAGE_SIZE) {
+                    break;
+                }
+                CommentResponse last = page.get(page.size() - 1);
+                page = commentRepository.findResponsesByTodoIdAfterCursor(
+                        todoId, last.getCreatedAt(), last.getId(), limit);
+            }
+
+            generator.writeEndArray();
         }
-        return dtoList;
     }
 }
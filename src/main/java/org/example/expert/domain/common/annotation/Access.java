@@ -0,0 +1,18 @@
+package org.example.expert.domain.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.example.expert.domain.common.enums.AccessLevel;
+
+/**
+ * 컨트롤러 또는 핸들러 메서드의 접근 수준. 메서드에 선언한 값이 클래스에 선언한 값보다 우선하며,
+ * 선언하지 않으면 {@link AccessLevel#AUTHENTICATED} 로 취급한다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Access {
+
+    AccessLevel value();
+}
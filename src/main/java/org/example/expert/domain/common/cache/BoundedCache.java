@@ -0,0 +1,115 @@
+package org.example.expert.domain.common.cache;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 항목별 만료 시각을 갖는 크기 제한 캐시.
+ * <p>
+ * 조회는 락 없이 {@link ConcurrentHashMap} 에서 처리하고, 최대 크기를 넘으면 만료된 항목부터 정리한 뒤
+ * 그래도 넘치는 경우 임의의 항목을 제거해 용량을 확보한다.
+ */
+public class BoundedCache<K, V> {
+
+    private final int maximumSize;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public BoundedCache(int maximumSize, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        if (entry.isExpired(clock.millis())) {
+            entries.remove(key, entry);
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        return entry.value;
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.millis()) {
+            return;
+        }
+
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+
+        if (entries.size() > maximumSize) {
+            evict();
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    private void evict() {
+        long now = clock.millis();
+
+        // 만료된 항목을 먼저 정리
+        entries.entrySet().removeIf(e -> {
+            boolean expired = e.getValue().isExpired(now);
+            if (expired) {
+                evictionCount.increment();
+            }
+            return expired;
+        });
+
+        // 그래도 넘치면 용량의 90% 까지 줄여서 put 마다 정리가 반복되지 않도록 함
+        int target = maximumSize - Math.max(1, maximumSize / 10);
+        Iterator<K> iterator = entries.keySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.expert.domain.common.enums;
+
+/**
+ * 요청 경로별 접근 수준. 뒤에 선언된 값일수록 더 엄격하다.
+ */
+public enum AccessLevel {
+    PUBLIC,
+    AUTHENTICATED,
+    ADMIN;
+
+    public AccessLevel stricter(AccessLevel other) {
+        return other == null || compareTo(other) >= 0 ? this : other;
+    }
+}
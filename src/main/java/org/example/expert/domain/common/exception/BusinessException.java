@@ -0,0 +1,25 @@
+package org.example.expert.domain.common.exception;
+
+/**
+ * 4xx/5xx 응답으로 바로 변환되는 도메인 예외의 공통 부모.
+ * <p>
+ * 이 예외들은 "찾을 수 없음", "잘못된 비밀번호" 처럼 정상적인 흐름에서 자주 발생하고, 처리할 때는 메시지만 사용한다.
+ * 스택 트레이스 수집({@code fillInStackTrace})이 생성 비용의 대부분이므로 {@code exception.stack-trace.enabled=false}
+ * 이면 스택 트레이스 없이 생성한다. 디버깅이 필요하면 설정을 켜면 된다. (기본값: 켜짐)
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    private static volatile boolean stackTraceEnabled = true;
+
+    protected BusinessException(String message) {
+        super(message, null, true, stackTraceEnabled);
+    }
+
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+}
@@ -1,6 +1,6 @@
 package org.example.expert.domain.common.exception;
 
-public class InvalidRequestException extends RuntimeException {
+public class InvalidRequestException extends BusinessException {
     public InvalidRequestException(String message) {
         super(message);
     }
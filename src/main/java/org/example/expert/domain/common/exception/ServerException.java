@@ -1,6 +1,6 @@
 package org.example.expert.domain.common.exception;
 
-public class ServerException extends RuntimeException {
+public class ServerException extends BusinessException {
 
     public ServerException(String message) {
         super(message);
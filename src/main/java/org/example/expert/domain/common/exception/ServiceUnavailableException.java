@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class ServiceUnavailableException extends BusinessException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
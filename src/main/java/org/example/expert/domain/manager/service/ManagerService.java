@@ -10,6 +10,7 @@ import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.service.TodoReader;
+import org.example.expert.domain.user.dto.UserSnapshot;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.service.UserReader;
@@ -17,7 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -42,7 +42,7 @@ public class ManagerService {
             throw new InvalidRequestException("일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
         }
 
-        User managerUser = userReader.getUserOrElseThrow(
+        UserSnapshot managerUser = userReader.getUserSnapshot(
                 managerSaveRequest.getManagerUserId(),
                 () -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다.")
         );
@@ -51,7 +51,7 @@ public class ManagerService {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
+        Manager newManagerUser = new Manager(User.fromSnapshot(managerUser), todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
 
         return new ManagerSaveResponse(
@@ -64,17 +64,7 @@ public class ManagerService {
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoReader.getTodoOrElseThrow(todoId);
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
-
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
-        }
-        return dtoList;
+        return managerRepository.findResponsesByTodoId(todo.getId());
     }
 
     @Transactional
@@ -3,6 +3,8 @@ package org.example.expert.domain.todo.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPage;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
@@ -11,20 +13,26 @@ import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
 
-    @Transactional
+    // 외부 날씨 API 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 먼저 조회하고,
+    // 저장은 todoRepository.save 의 트랜잭션에서만 처리한다.
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
@@ -51,17 +59,40 @@ public class TodoService {
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        return todoRepository.findResponsesOrderByModifiedAtDesc(pageable);
+    }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+    // size + 1 건을 읽어 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 필요 없다.
+    @Transactional(readOnly = true)
+    public CursorPage<TodoResponse> getTodosByCursor(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<TodoResponse> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findResponsesOrderByModifiedAtDescIdDesc(limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            todos = todoRepository.findResponsesBeforeCursor(keysetCursor.getTimestamp(), keysetCursor.getId(), limit);
+        }
+
+        boolean hasNext = todos.size() > pageSize;
+        if (hasNext) {
+            todos = todos.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = todos.get(todos.size() - 1);
+            nextCursor = new KeysetCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new CursorPage<>(
+                todos,
+                pageSize,
+                hasNext,
+                nextCursor
+        );
     }
 
     @Transactional(readOnly = true)
@@ -69,6 +100,10 @@ public class TodoService {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
+        return toTodoResponse(todo);
+    }
+
+    private TodoResponse toTodoResponse(Todo todo) {
         User user = todo.getUser();
 
         return new TodoResponse(
@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+/**
+ * 캐시에 보관하는 사용자 정보의 불변 사본. 비밀번호 등 민감한 값은 담지 않는다.
+ */
+@Getter
+public class UserSnapshot {
+
+    private final Long id;
+    private final String email;
+    private final UserRole userRole;
+
+    // JPQL 생성자 프로젝션용
+    public UserSnapshot(Long id, String email, UserRole userRole) {
+        this.id = id;
+        this.email = email;
+        this.userRole = userRole;
+    }
+}
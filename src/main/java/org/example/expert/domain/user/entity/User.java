@@ -3,13 +3,17 @@ package org.example.expert.domain.user.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.user.dto.UserSnapshot;
 import org.example.expert.domain.user.enums.UserRole;
 
 @Getter
 @Entity
 @NoArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-entity")
 @Table(name = "users")
 public class User extends Timestamped {
 
@@ -37,6 +41,11 @@ public class User extends Timestamped {
         return new User(authUser.getId(), authUser.getEmail(), authUser.getUserRole());
     }
 
+    // 연관관계 설정용 참조. 영속 상태가 아니므로 값을 바꾸지 않는다.
+    public static User fromSnapshot(UserSnapshot snapshot) {
+        return new User(snapshot.getId(), snapshot.getEmail(), snapshot.getUserRole());
+    }
+
     public void changePassword(String password) {
         this.password = password;
     }
@@ -2,15 +2,34 @@ package org.example.expert.domain.user.enums;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 public enum UserRole {
     ADMIN, USER;
 
+    // 이름 → 값. 대문자 그대로 들어오는 경우가 대부분이므로 변환 없이 먼저 찾는다.
+    private static final Map<String, UserRole> BY_NAME = new HashMap<>();
+
+    static {
+        for (UserRole role : values()) {
+            BY_NAME.put(role.name(), role);
+        }
+    }
+
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+        if (role == null) {
+            throw new InvalidRequestException("유효하지 않은 UerRole");
+        }
+
+        UserRole userRole = BY_NAME.get(role);
+        if (userRole == null) {
+            userRole = BY_NAME.get(role.toUpperCase(Locale.ROOT));
+        }
+        if (userRole == null) {
+            throw new InvalidRequestException("유효하지 않은 UerRole");
+        }
+        return userRole;
     }
 }
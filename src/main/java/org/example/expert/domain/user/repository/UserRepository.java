@@ -1,11 +1,29 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.UserSnapshot;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 캐시 적재용: 엔티티 대신 필요한 컬럼만 읽는다.
+    @Query("SELECT new org.example.expert.domain.user.dto.UserSnapshot(u.id, u.email, u.userRole) " +
+            "FROM User u WHERE u.id = :userId")
+    Optional<UserSnapshot> findSnapshotById(@Param("userId") Long userId);
+
+    // 로그인 시 재해싱한 비밀번호 저장. 그 사이 비밀번호가 바뀌었으면(저장된 해시가 다르면) 덮어쓰지 않는다.
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePassword(@Param("userId") Long userId,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 }
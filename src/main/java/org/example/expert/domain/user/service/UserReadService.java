@@ -1,18 +1,72 @@
 package org.example.expert.domain.user.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.cache.BoundedCache;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserSnapshot;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.function.Supplier;
 
+/**
+ * 사용자 조회. 읽기 전용 조회({@link #getUserSnapshot})는 {@link UserSnapshot} 을 ttl 동안 캐시한다.
+ * <p>
+ * 사용자 정보를 바꾸는 쪽은 {@link #invalidate} 를 호출해야 한다. 커밋 전에 다른 요청이 옛 값을 다시 적재할 수 있으므로
+ * 트랜잭션이 끝난 뒤에 한 번 더 지운다. 그래도 남는 경합은 ttl 이 지나면 사라진다.
+ * 적중률은 cache.gets{cache=users, result=hit|miss} 와 cache.hit.ratio{cache=users} 로 노출한다.
+ */
 @Service
-@RequiredArgsConstructor
 public class UserReadService implements UserReader {
 
+    private static final String CACHE_NAME = "users";
+
     private final UserRepository userRepository;
+    private final BoundedCache<Long, UserSnapshot> cache;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    @Autowired
+    public UserReadService(
+            UserRepository userRepository,
+            @Value("${user.cache.maximum-size:10000}") int maximumSize,
+            @Value("${user.cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this(userRepository, maximumSize, ttl, meterRegistry, Clock.systemUTC());
+    }
+
+    UserReadService(UserRepository userRepository, int maximumSize, Duration ttl, MeterRegistry meterRegistry, Clock clock) {
+        this.userRepository = userRepository;
+        this.cache = new BoundedCache<>(maximumSize, clock);
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+
+        FunctionCounter.builder("cache.gets", cache, BoundedCache::hitCount)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, BoundedCache::missCount)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", cache, BoundedCache::evictionCount)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cache, BoundedCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.hit.ratio", cache, UserReadService::hitRatio)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
 
     @Override
     public User getUserOrElseThrow(long userId) {
@@ -25,4 +79,42 @@ public class UserReadService implements UserReader {
         return userRepository.findById(userId)
                 .orElseThrow(exSupplier);
     }
+
+    @Override
+    public UserSnapshot getUserSnapshot(long userId) {
+        return getUserSnapshot(userId, () -> new InvalidRequestException("User not found"));
+    }
+
+    @Override
+    public UserSnapshot getUserSnapshot(long userId, Supplier<? extends RuntimeException> exSupplier) {
+        UserSnapshot cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserSnapshot snapshot = userRepository.findSnapshotById(userId)
+                .orElseThrow(exSupplier);
+        cache.put(userId, snapshot, clock.millis() + ttlMillis);
+        return snapshot;
+    }
+
+    @Override
+    public void invalidate(long userId) {
+        cache.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private static double hitRatio(BoundedCache<?, ?> cache) {
+        long hits = cache.hitCount();
+        long total = hits + cache.missCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
 }
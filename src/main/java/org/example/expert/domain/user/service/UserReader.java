@@ -1,5 +1,6 @@
 package org.example.expert.domain.user.service;
 
+import org.example.expert.domain.user.dto.UserSnapshot;
 import org.example.expert.domain.user.entity.User;
 
 import java.util.function.Supplier;
@@ -10,4 +11,11 @@ public interface UserReader {
 
     User getUserOrElseThrow(long userId, Supplier<? extends RuntimeException> exSupplier);
 
+    // 읽기 전용 조회. 캐시에 있으면 DB 를 조회하지 않는다.
+    UserSnapshot getUserSnapshot(long userId);
+
+    UserSnapshot getUserSnapshot(long userId, Supplier<? extends RuntimeException> exSupplier);
+
+    // 사용자 정보를 바꾼 뒤 호출한다. 트랜잭션 안이면 커밋(또는 롤백) 후에도 한 번 더 지운다.
+    void invalidate(long userId);
 }
@@ -2,7 +2,9 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.TokenRevocationStore;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserSnapshot;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -16,10 +18,12 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final UserReader userReader;
 
-    @Transactional(readOnly = true)
+    // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않는다.
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
+        UserSnapshot user = userReader.getUserSnapshot(userId);
         return new UserResponse(user.getId(), user.getEmail());
     }
 
@@ -37,5 +41,9 @@ public class UserService {
         }
 
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+
+        // 비밀번호 변경 전에 발급된 토큰은 모두 무효화
+        tokenRevocationStore.revokeAllIssuedBefore(userId);
+        userReader.invalidate(userId);
     }
 }
@@ -0,0 +1,6 @@
+-- 일정 목록: ORDER BY modified_at DESC (+ 커서 조회의 id 타이브레이커)
+CREATE INDEX idx_todos_modified_at_id ON todos (modified_at DESC, id DESC);
+
+-- 일정별 댓글 / 담당자 조회: WHERE todo_id = ?
+CREATE INDEX idx_comments_todo_id ON comments (todo_id);
+CREATE INDEX idx_managers_todo_id ON managers (todo_id);
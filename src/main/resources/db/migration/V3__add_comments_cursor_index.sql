@@ -0,0 +1,4 @@
+-- 일정별 댓글 커서 조회: WHERE todo_id = ? ORDER BY created_at, id
+-- todo_id 단일 인덱스는 새 인덱스의 선두 컬럼과 겹치므로 제거한다.
+CREATE INDEX idx_comments_todo_id_created_at_id ON comments (todo_id, created_at, id);
+DROP INDEX idx_comments_todo_id ON comments;
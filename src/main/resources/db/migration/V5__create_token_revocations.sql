@@ -0,0 +1,22 @@
+-- 사용자별 토큰 무효화 기준 시각: 이 시각 이전에 발급된 토큰은 모두 거부한다.
+CREATE TABLE user_token_watermarks
+(
+    user_id        BIGINT      NOT NULL,
+    revoked_before DATETIME(6) NOT NULL,
+    expires_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_user_token_watermarks_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- 개별 토큰(jti) 거부 목록
+CREATE TABLE revoked_tokens
+(
+    jti        VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (jti)
+);
+
+-- 만료된 항목 정리용
+CREATE INDEX idx_user_token_watermarks_expires_at ON user_token_watermarks (expires_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,19 @@
+-- 관리자 API(@LogAdmin) 호출 기록. 요청 스레드가 아닌 로그 소비 스레드가 JDBC 배치로 INSERT 한다.
+CREATE TABLE admin_audit
+(
+    id            BIGINT        NOT NULL AUTO_INCREMENT,
+    requested_at  DATETIME(6)   NOT NULL,
+    user_id       BIGINT,
+    method_name   VARCHAR(100)  NOT NULL,
+    request_uri   VARCHAR(255)  NOT NULL,
+    request_body  VARCHAR(4000),
+    success       BOOLEAN       NOT NULL,
+    duration_ms   BIGINT        NOT NULL,
+    error_message VARCHAR(500),
+    PRIMARY KEY (id)
+);
+
+-- 조회 API 필터: 사용자별 / URI 접두사별 / 기간, 모두 최신순
+CREATE INDEX idx_admin_audit_user_requested_at ON admin_audit (user_id, requested_at);
+CREATE INDEX idx_admin_audit_uri_requested_at ON admin_audit (request_uri, requested_at);
+CREATE INDEX idx_admin_audit_requested_at ON admin_audit (requested_at);
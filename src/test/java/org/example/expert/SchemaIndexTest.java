@@ -0,0 +1,107 @@
+package org.example.expert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마에서 주요 조회 쿼리의 실행 계획을 확인한다.
+ * H2 의 EXPLAIN 결과에 tableScan 이 보이면 인덱스를 타지 못한 것이다.
+ * <p>
+ * H2 는 외래 키마다 만든 인덱스(fk_..._INDEX_..)를 그대로 두므로 todo_id 단건 조건에서는 그 인덱스를 고를 수 있다.
+ * (MySQL 은 쓸 수 있는 인덱스가 새로 생기면 외래 키용 암묵 인덱스를 지운다) 그래서 todo_id 조회는
+ * 마이그레이션이 만든 인덱스의 컬럼 구성을 직접 확인한다.
+ */
+@JdbcTest
+class SchemaIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("일정 목록 조회는 modified_at 인덱스로 정렬한다")
+    void todosOrderByModifiedAt_UsesIndex() {
+        String plan = explain("SELECT t.id FROM todos t JOIN users u ON u.id = t.user_id "
+            + "ORDER BY t.modified_at DESC, t.id DESC LIMIT 10");
+
+        assertThat(plan).contains("idx_todos_modified_at_id").doesNotContain("todos.tableScan");
+    }
+
+    @Test
+    @DisplayName("일정 커서 조회는 modified_at 인덱스로 범위 탐색한다")
+    void todosKeyset_UsesIndex() {
+        String plan = explain("SELECT t.id FROM todos t "
+            + "WHERE t.modified_at <= TIMESTAMP '2024-01-01 00:00:00' "
+            + "AND (t.modified_at < TIMESTAMP '2024-01-01 00:00:00' OR t.id < 10) "
+            + "ORDER BY t.modified_at DESC, t.id DESC LIMIT 10");
+
+        assertThat(plan).contains("idx_todos_modified_at_id").doesNotContain("todos.tableScan");
+    }
+
+    @Test
+    @DisplayName("일정별 댓글 조회는 (todo_id, created_at, id) 인덱스를 사용한다")
+    void commentsByTodoId_UsesIndex() {
+        String plan = explain("SELECT c.id FROM comments c JOIN users u ON u.id = c.user_id "
+            + "WHERE c.todo_id = 1");
+
+        assertThat(plan).doesNotContain("comments.tableScan");
+        assertThat(indexColumns("comments", "idx_comments_todo_id_created_at_id"))
+            .containsExactly("todo_id", "created_at", "id");
+    }
+
+    @Test
+    @DisplayName("일정별 댓글 커서 조회는 (todo_id, created_at, id) 인덱스를 사용한다")
+    void commentsKeyset_UsesIndex() {
+        String plan = explain("SELECT c.id FROM comments c "
+            + "WHERE c.todo_id = 1 "
+            + "AND c.created_at >= TIMESTAMP '2024-01-01 00:00:00' "
+            + "AND (c.created_at > TIMESTAMP '2024-01-01 00:00:00' OR c.id > 10) "
+            + "ORDER BY c.created_at, c.id LIMIT 10");
+
+        assertThat(plan).contains("idx_comments_todo_id_created_at_id").doesNotContain("comments.tableScan");
+    }
+
+    @Test
+    @DisplayName("일정별 담당자 조회는 todo_id 인덱스를 사용한다")
+    void managersByTodoId_UsesIndex() {
+        String plan = explain("SELECT m.id FROM managers m JOIN users u ON u.id = m.user_id "
+            + "WHERE m.todo_id = 1");
+
+        assertThat(plan).doesNotContain("managers.tableScan");
+        assertThat(indexColumns("managers", "idx_managers_todo_id")).containsExactly("todo_id");
+    }
+
+    @Test
+    @DisplayName("관리자 감사 기록의 사용자별 조회는 (user_id, requested_at) 인덱스를 사용한다")
+    void adminAuditByUser_UsesIndex() {
+        String plan = explain("SELECT a.id FROM admin_audit a "
+            + "WHERE a.user_id = 1 AND a.requested_at >= TIMESTAMP '2024-01-01 00:00:00' "
+            + "ORDER BY a.requested_at DESC LIMIT 10");
+
+        assertThat(plan).contains("idx_admin_audit_user_requested_at").doesNotContain("admin_audit.tableScan");
+    }
+
+    @Test
+    @DisplayName("관리자 감사 기록의 URI 접두사 조회는 (request_uri, requested_at) 인덱스를 사용한다")
+    void adminAuditByUriPrefix_UsesIndex() {
+        String plan = explain("SELECT a.id FROM admin_audit a "
+            + "WHERE a.request_uri LIKE '/admin/users/%' ESCAPE '\\'");
+
+        assertThat(plan).contains("idx_admin_audit_uri_requested_at").doesNotContain("admin_audit.tableScan");
+    }
+
+    private String explain(String sql) {
+        List<String> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        return String.join("\n", rows);
+    }
+
+    private List<String> indexColumns(String table, String index) {
+        return jdbcTemplate.queryForList("SELECT column_name FROM information_schema.index_columns "
+            + "WHERE table_name = ? AND index_name = ? ORDER BY ordinal_position", String.class, table, index);
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.expert.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class WeatherClientTest {
+
+    private static final WeatherDto[] WEATHER = {
+        new WeatherDto("01-01", "Sunny"),
+        new WeatherDto("01-02", "Rainy")
+    };
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private MutableClock clock;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T09:00:00Z"));
+        weatherClient = new WeatherClient(restTemplate, clock);
+    }
+
+    @Test
+    @DisplayName("같은 날짜에는 외부 API 를 한 번만 호출한다")
+    void getTodayWeather_SameDay_CallsApiOnce() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+            .willReturn(ResponseEntity.ok(WEATHER));
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(first).isEqualTo("Sunny");
+        assertThat(second).isEqualTo("Sunny");
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 새로 조회한다")
+    void getTodayWeather_NextDay_Refreshes() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+            .willReturn(ResponseEntity.ok(WEATHER));
+        weatherClient.getTodayWeather();
+
+        // when
+        clock.set(Instant.parse("2025-01-02T09:00:00Z"));
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo("Rainy");
+        verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 마지막으로 조회한 값을 사용한다")
+    void getTodayWeather_RefreshFails_ServesLastKnownValue() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+            .willReturn(ResponseEntity.ok(WEATHER))
+            .willThrow(new ResourceAccessException("timeout"));
+        weatherClient.getTodayWeather();
+        clock.set(Instant.parse("2025-01-02T09:00:00Z"));
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+        String duringBackoff = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo("Sunny");
+        assertThat(duringBackoff).isEqualTo("Sunny");
+        verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    @DisplayName("캐시된 값이 없는 상태에서 조회에 실패하면 예외가 발생한다")
+    void getTodayWeather_NoCacheAndFails_Throws() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+            .willReturn(ResponseEntity.ok(new WeatherDto[0]));
+
+        // when & then
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+    }
+
+    @Test
+    @DisplayName("동시에 캐시가 비어 있어도 외부 API 는 한 번만 호출한다")
+    void getTodayWeather_ConcurrentMisses_SingleFlight() throws Exception {
+        // given
+        int threads = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(WEATHER);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> weatherClient.getTodayWeather()));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Sunny");
+        }
+        executor.shutdown();
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    @DisplayName("캐시가 비어 있을 때 조회가 실패하면 대기 중인 요청들은 같은 실패를 공유하고 다시 호출하지 않는다")
+    void getTodayWeather_ConcurrentColdFailure_SharesFailure() throws Exception {
+        // given
+        int threads = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new ResourceAccessException("timeout");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> weatherClient.getTodayWeather()));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertThat(exception.getCause()).isInstanceOf(ResourceAccessException.class);
+        }
+        executor.shutdown();
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    @DisplayName("캐시가 비어 있을 때의 조회 실패 후에는 재시도 대기 시간이 지나야 다시 호출한다")
+    void getTodayWeather_ColdFailure_RetriesAfterBackoff() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+            .willThrow(new ResourceAccessException("timeout"))
+            .willReturn(ResponseEntity.ok(WEATHER));
+        assertThrows(ResourceAccessException.class, () -> weatherClient.getTodayWeather());
+
+        // when
+        assertThrows(ResourceAccessException.class, () -> weatherClient.getTodayWeather());
+        clock.set(Instant.parse("2025-01-01T09:00:06Z"));
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo("Sunny");
+        verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
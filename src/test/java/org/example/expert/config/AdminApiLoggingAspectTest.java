@@ -1,18 +1,24 @@
 package org.example.expert.config;
 
-import static org.mockito.Mockito.any;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.example.expert.aop.LogAdmin;
+import org.example.expert.config.adminlog.AdminLogDispatcher;
+import org.example.expert.config.adminlog.AdminLogEvent;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,7 +33,7 @@ class AdminApiLoggingAspectTest {
     private AdminApiLoggingAspect adminApiLoggingAspect;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private AdminLogDispatcher adminLogDispatcher;
 
     @Mock
     private ProceedingJoinPoint proceedingJoinPoint;
@@ -46,17 +52,99 @@ class AdminApiLoggingAspectTest {
     void logAdminApi() throws Throwable {
         // given
         request.setRequestURI("/api/admin/test");
-        request.setAttribute("userId", 1L);
+        request.setAttribute(AuthUser.ATTRIBUTE, new AuthUser(1L, "admin@example.com", UserRole.ADMIN));
         Object[] args = {"test_request"};
+        Object response = new Object();
         when(proceedingJoinPoint.getArgs()).thenReturn(args);
         when(proceedingJoinPoint.getSignature()).thenReturn(mock(org.aspectj.lang.Signature.class));
         when(proceedingJoinPoint.getSignature().getName()).thenReturn("testMethod");
-        when(objectMapper.writeValueAsString(any())).thenReturn("{\"key\":\"value\"}");
+        when(proceedingJoinPoint.proceed()).thenReturn(response);
 
         // when
-        adminApiLoggingAspect.logAdminApi(proceedingJoinPoint);
+        Object result = adminApiLoggingAspect.logAdminApi(proceedingJoinPoint, logAdmin(1.0));
 
         // then
         verify(proceedingJoinPoint, times(1)).proceed();
+        assertThat(result).isSameAs(response);
+
+        ArgumentCaptor<AdminLogEvent> captor = ArgumentCaptor.forClass(AdminLogEvent.class);
+        verify(adminLogDispatcher).publish(captor.capture());
+        AdminLogEvent event = captor.getValue();
+        assertThat(event.getMethodName()).isEqualTo("testMethod");
+        assertThat(event.getUserId()).isEqualTo(1L);
+        assertThat(event.getRequestURI()).isEqualTo("/api/admin/test");
+        assertThat(event.getArgs()).isSameAs(args); // 직렬화하지 않고 참조만 넘긴다
+        assertThat(event.getResult()).isSameAs(response);
+        assertThat(event.isFailed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Admin API 실패 시 에러 이벤트를 발행하고 예외를 다시 던진다")
+    void logAdminApi_실패() throws Throwable {
+        // given
+        request.setRequestURI("/api/admin/test");
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[0]);
+        when(proceedingJoinPoint.getSignature()).thenReturn(mock(org.aspectj.lang.Signature.class));
+        when(proceedingJoinPoint.getSignature().getName()).thenReturn("testMethod");
+        when(proceedingJoinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        // when & then
+        assertThatThrownBy(() -> adminApiLoggingAspect.logAdminApi(proceedingJoinPoint, logAdmin(1.0)))
+                .isInstanceOf(IllegalStateException.class);
+
+        ArgumentCaptor<AdminLogEvent> captor = ArgumentCaptor.forClass(AdminLogEvent.class);
+        verify(adminLogDispatcher).publish(captor.capture());
+        assertThat(captor.getValue().isFailed()).isTrue();
+        assertThat(captor.getValue().getErrorMessage()).isEqualTo("boom");
+        assertThat(captor.getValue().getUserId()).isNull();
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0이어도 감사 기록을 위해 성공한 호출을 발행하고 비율은 이벤트에 담는다")
+    void logAdminApi_샘플링_제외() throws Throwable {
+        // given
+        request.setRequestURI("/api/admin/test");
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[0]);
+        when(proceedingJoinPoint.getSignature()).thenReturn(mock(org.aspectj.lang.Signature.class));
+        when(proceedingJoinPoint.getSignature().getName()).thenReturn("testMethod");
+
+        // when
+        adminApiLoggingAspect.logAdminApi(proceedingJoinPoint, logAdmin(0.0));
+
+        // then
+        verify(proceedingJoinPoint, times(1)).proceed();
+        ArgumentCaptor<AdminLogEvent> captor = ArgumentCaptor.forClass(AdminLogEvent.class);
+        verify(adminLogDispatcher).publish(captor.capture());
+        assertThat(captor.getValue().getSampleRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0이어도 실패한 호출은 발행한다")
+    void logAdminApi_샘플링_실패는_기록() throws Throwable {
+        // given
+        request.setRequestURI("/api/admin/test");
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[0]);
+        when(proceedingJoinPoint.getSignature()).thenReturn(mock(org.aspectj.lang.Signature.class));
+        when(proceedingJoinPoint.getSignature().getName()).thenReturn("testMethod");
+        when(proceedingJoinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        // when & then
+        assertThatThrownBy(() -> adminApiLoggingAspect.logAdminApi(proceedingJoinPoint, logAdmin(0.0)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(adminLogDispatcher, times(1)).publish(any());
+    }
+
+    private static LogAdmin logAdmin(double sampleRate) {
+        return new LogAdmin() {
+            @Override
+            public double sampleRate() {
+                return sampleRate;
+            }
+
+            @Override
+            public Class<? extends java.lang.annotation.Annotation> annotationType() {
+                return LogAdmin.class;
+            }
+        };
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.given;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.lang.reflect.Method;
+import java.util.List;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
@@ -19,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.HandlerMethod;
 
 @ExtendWith(MockitoExtension.class)
 class AuthUserArgumentResolverTest {
@@ -86,6 +88,34 @@ class AuthUserArgumentResolverTest {
         });
     }
 
+    @Test
+    @DisplayName("시작 시 검사 - 잘못 사용된 파라미터가 있으면 예외로 기동을 막는다")
+    public void precompute_Mismatch_FailsFast() throws NoSuchMethodException {
+        // given
+        TestController controller = new TestController();
+        HandlerMethod valid = new HandlerMethod(controller, method);
+        HandlerMethod mismatch = new HandlerMethod(controller,
+            TestController.class.getMethod("mismatchMethod", String.class));
+
+        // when & then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+            authUserArgumentResolver.precompute(List.of(valid, mismatch)));
+        assertThat(exception.getMessage()).contains("mismatchMethod");
+    }
+
+    @Test
+    @DisplayName("시작 시 검사 - 결과를 저장해 두고 요청 시 그대로 사용한다")
+    public void precompute_Valid_CachesDecisions() {
+        // given
+        HandlerMethod valid = new HandlerMethod(new TestController(), method);
+        authUserArgumentResolver.precompute(List.of(valid));
+
+        // when & then
+        MethodParameter[] parameters = valid.getMethodParameters();
+        assertThat(authUserArgumentResolver.supportsParameter(parameters[0])).isTrue();
+        assertThat(authUserArgumentResolver.supportsParameter(parameters[1])).isFalse();
+    }
+
     @Test
     @DisplayName("파라미터 해석 성공 테스트")
     public void resolveArgument_Success() throws Exception {
@@ -96,22 +126,34 @@ class AuthUserArgumentResolverTest {
         UserRole userRole = UserRole.USER;
 
         given(webRequest.getNativeRequest()).willReturn(httpServletRequest);
-        given(httpServletRequest.getAttribute("userId")).willReturn(userId);
-        given(httpServletRequest.getAttribute("email")).willReturn(email);
-        given(httpServletRequest.getAttribute("userRole")).willReturn(userRole.toString());
+        AuthUser stored = new AuthUser(userId, email, userRole);
+        given(httpServletRequest.getAttribute(AuthUser.ATTRIBUTE)).willReturn(stored);
 
         // when
         Object result = authUserArgumentResolver.resolveArgument(methodParameter, null, webRequest,
             null);
 
         // then
-        assertThat(result).isInstanceOf(AuthUser.class);
+        assertThat(result).isSameAs(stored);
         AuthUser authUser = (AuthUser) result;
         assertThat(authUser.getId()).isEqualTo(userId);
         assertThat(authUser.getEmail()).isEqualTo(email);
         assertThat(authUser.getUserRole()).isEqualTo(userRole);
     }
 
+    @Test
+    @DisplayName("파라미터 해석 실패 테스트 - 인증 정보 없음")
+    public void resolveArgument_Failure_NoAuthUser() throws Exception {
+        // given
+        MethodParameter methodParameter = new MethodParameter(method, 0);
+        given(webRequest.getNativeRequest()).willReturn(httpServletRequest);
+        given(httpServletRequest.getAttribute(AuthUser.ATTRIBUTE)).willReturn(null);
+
+        // when & then
+        assertThrows(AuthException.class, () ->
+            authUserArgumentResolver.resolveArgument(methodParameter, null, webRequest, null));
+    }
+
     // 테스트를 위한 더미 컨트롤러
     private static class TestController {
 
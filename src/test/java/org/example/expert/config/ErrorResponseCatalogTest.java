@@ -0,0 +1,86 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ErrorResponseCatalogTest {
+
+    private final ErrorResponseCatalog catalog = new ErrorResponseCatalog(new ObjectMapper(), 2);
+
+    @Test
+    @DisplayName("같은 상태 코드와 메시지는 인코딩한 바이트 배열을 재사용한다")
+    void get_SameStatusAndMessage_ReturnsCachedPayload() {
+        // when
+        byte[] first = catalog.get(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+        byte[] second = catalog.get(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8))
+            .isEqualTo("{\"status\":\"UNAUTHORIZED\",\"code\":401,\"message\":\"인증이 필요합니다.\"}");
+        assertThat(catalog.get(HttpStatus.FORBIDDEN, "인증이 필요합니다.")).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("메시지의 특수 문자는 JSON 으로 이스케이프한다")
+    void get_EscapesMessage() {
+        // when
+        String payload = new String(catalog.get(HttpStatus.BAD_REQUEST, "\"quoted\"\n"), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(payload).isEqualTo("{\"status\":\"BAD_REQUEST\",\"code\":400,\"message\":\"\\\"quoted\\\"\\n\"}");
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘는 메시지는 캐시하지 않고 매번 인코딩한다")
+    void get_OverMaximumSize_NotCached() {
+        // given
+        catalog.get(HttpStatus.BAD_REQUEST, "a");
+        catalog.get(HttpStatus.BAD_REQUEST, "b");
+
+        // when
+        byte[] first = catalog.get(HttpStatus.BAD_REQUEST, "c");
+        byte[] second = catalog.get(HttpStatus.BAD_REQUEST, "c");
+
+        // then
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서블릿 응답에 상태 코드, 헤더, 본문을 쓴다")
+    void write_WritesStatusHeadersAndBody() throws IOException {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        catalog.write(response, HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+
+        // then
+        byte[] expected = catalog.get(HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getContentLength()).isEqualTo(expected.length);
+        assertThat(response.getContentAsByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("ResponseEntity 본문과 Content-Type 을 설정한다")
+    void toResponseEntity() {
+        // when
+        ResponseEntity<byte[]> entity = catalog.toResponseEntity(HttpStatus.UNAUTHORIZED, "잘못된 비밀번호입니다.");
+
+        // then
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(entity.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("application/json;charset=UTF-8"));
+        assertThat(entity.getBody()).isSameAs(catalog.get(HttpStatus.UNAUTHORIZED, "잘못된 비밀번호입니다."));
+    }
+}
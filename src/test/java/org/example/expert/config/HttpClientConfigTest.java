@@ -0,0 +1,114 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class HttpClientConfigTest {
+
+    private final HttpClientConfig httpClientConfig = new HttpClientConfig();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 로컬 stub 서버
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(3_000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        connectionManager = httpClientConfig.httpClientConnectionManager(
+            5, 2, Duration.ofMillis(500), Duration.ofMillis(1_000));
+        httpClient = httpClientConfig.httpClient(
+            connectionManager, Duration.ofMillis(500), Duration.ofMillis(1_000), Duration.ofSeconds(30));
+        restTemplate = new RestTemplate(httpClientConfig.clientHttpRequestFactory(httpClient));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("연속 요청은 풀에 반납된 커넥션을 재사용한다")
+    void restTemplate_ReusesPooledConnection() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(restTemplate.getForObject(url("/ok"), String.class)).isEqualTo("ok");
+        }
+
+        // then
+        assertThat(clientPorts).hasSize(1);
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답이 read-timeout 을 넘기면 예외가 발생한다")
+    void restTemplate_SlowResponse_TimesOut() {
+        // when & then
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(url("/slow"), String.class));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(2_500));
+    }
+
+    @Test
+    @DisplayName("커넥션 풀 메트릭을 노출한다")
+    void httpClientPoolMetrics_ExposesPoolStats() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        httpClientConfig.httpClientPoolMetrics(connectionManager).bindTo(registry);
+
+        // when
+        restTemplate.getForObject(url("/ok"), String.class);
+
+        // then
+        assertThat(registry.get("httpcomponents.httpclient.pool.total.max").gauge().value()).isEqualTo(5);
+        assertThat(registry.get("httpcomponents.httpclient.pool.total.connections")
+            .tag("state", "available").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("httpcomponents.httpclient.pool.total.connections")
+            .tag("state", "leased").gauge().value()).isZero();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+}
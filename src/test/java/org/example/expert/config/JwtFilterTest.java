@@ -1,30 +1,41 @@
 package org.example.expert.config;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.impl.DefaultClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.example.expert.domain.auth.service.TokenRevocationStore;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.enums.AccessLevel;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 
@@ -36,15 +47,39 @@ class JwtFilterTest {
     private static final String ADMIN_API_URI = "/admin/some-endpoint";
     private static final String AUTH_API_URI = "/auth/login";
     // --- Helper Fields ---
-    private final StringWriter stringWriter = new StringWriter();
-    private final PrintWriter printWriter = new PrintWriter(stringWriter);
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final ServletOutputStream outputStream = new ServletOutputStream() {
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+
+        @Override
+        public void write(int b) {
+            body.write(b);
+        }
+    };
     // --- Mocks and Class Under Test ---
     @InjectMocks
     private JwtFilter jwtFilter;
     @Mock
     private JwtUtil jwtUtil;
+    @Spy
+    private ErrorResponseCatalog errorResponseCatalog = new ErrorResponseCatalog(new ObjectMapper(), 100);
+    @Spy
+    private JwtTokenCache jwtTokenCache = new JwtTokenCache(100);
     @Mock
-    private ObjectMapper objectMapper;
+    private TokenRevocationStore tokenRevocationStore;
+    @Spy
+    private RoutePolicyRegistry routePolicyRegistry = new RoutePolicyRegistry(RoutePolicyTable.builder()
+        .register("/auth/**", List.of(), AccessLevel.PUBLIC)
+        .register("/admin/users/{userId}", List.of("PATCH"), AccessLevel.ADMIN)
+        .floor("/admin", AccessLevel.ADMIN)
+        .build());
     @Mock
     private HttpServletRequest request;
     @Mock
@@ -55,19 +90,21 @@ class JwtFilterTest {
     // --- Helper Methods for Setup ---
     private void setupToken(String token, UserRole role, String userId, String email) {
         String bearerToken = "Bearer " + token;
-        Claims claims = new DefaultClaims();
-        claims.setSubject(userId);
-        claims.put("email", email);
-        claims.put("userRole", role.name());
+        VerifiedToken verifiedToken = new VerifiedToken(Long.parseLong(userId), email, role, 0L);
 
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(token);
-        given(jwtUtil.extractClaims(token)).willReturn(claims);
+        given(jwtUtil.verifyToken(token)).willReturn(verifiedToken);
+    }
+
+    private AuthUser capturedAuthUser() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(request).setAttribute(eq(AuthUser.ATTRIBUTE), captor.capture());
+        return (AuthUser) captor.getValue();
     }
 
     private void setupErrorResponse() throws IOException {
-        given(objectMapper.writeValueAsString(any())).willReturn("{\"message\":\"error\"}");
-        given(response.getWriter()).willReturn(printWriter);
+        given(response.getOutputStream()).willReturn(outputStream);
     }
 
     // --- Tests ---
@@ -100,6 +137,8 @@ class JwtFilterTest {
         // Then
         verify(response).setStatus(HttpStatus.UNAUTHORIZED.value());
         verify(filterChain, never()).doFilter(request, response);
+        assertThat(body.toString(StandardCharsets.UTF_8))
+            .isEqualTo("{\"status\":\"UNAUTHORIZED\",\"code\":401,\"message\":\"인증이 필요합니다.\"}");
     }
 
     @Test
@@ -113,9 +152,10 @@ class JwtFilterTest {
         jwtFilter.doFilter(request, response, filterChain);
 
         // Then
-        verify(request).setAttribute("userId", 1L);
-        verify(request).setAttribute("email", "user@example.com");
-        verify(request).setAttribute("userRole", "USER");
+        AuthUser authUser = capturedAuthUser();
+        assertThat(authUser.getId()).isEqualTo(1L);
+        assertThat(authUser.getEmail()).isEqualTo("user@example.com");
+        assertThat(authUser.getUserRole()).isEqualTo(UserRole.USER);
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
@@ -128,7 +168,7 @@ class JwtFilterTest {
         given(request.getRequestURI()).willReturn(DEFAULT_API_URI);
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(expiredToken);
-        given(jwtUtil.extractClaims(expiredToken)).willThrow(
+        given(jwtUtil.verifyToken(expiredToken)).willThrow(
             new ExpiredJwtException(null, new DefaultClaims(), "Expired"));
         setupErrorResponse();
 
@@ -149,7 +189,7 @@ class JwtFilterTest {
         given(request.getRequestURI()).willReturn(DEFAULT_API_URI);
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(invalidToken);
-        given(jwtUtil.extractClaims(invalidToken)).willThrow(new MalformedJwtException("Invalid"));
+        given(jwtUtil.verifyToken(invalidToken)).willThrow(new MalformedJwtException("Invalid"));
         setupErrorResponse();
 
         // When
@@ -171,9 +211,10 @@ class JwtFilterTest {
         jwtFilter.doFilter(request, response, filterChain);
 
         // Then
-        verify(request).setAttribute("userId", 100L);
-        verify(request).setAttribute("email", "admin@example.com");
-        verify(request).setAttribute("userRole", "ADMIN");
+        AuthUser authUser = capturedAuthUser();
+        assertThat(authUser.getId()).isEqualTo(100L);
+        assertThat(authUser.getEmail()).isEqualTo("admin@example.com");
+        assertThat(authUser.getUserRole()).isEqualTo(UserRole.ADMIN);
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
@@ -204,7 +245,7 @@ class JwtFilterTest {
         given(request.getRequestURI()).willReturn(DEFAULT_API_URI);
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(tokenWithNoClaims);
-        given(jwtUtil.extractClaims(tokenWithNoClaims)).willReturn(null);
+        given(jwtUtil.verifyToken(tokenWithNoClaims)).willReturn(null);
         setupErrorResponse();
 
         // When
@@ -225,7 +266,7 @@ class JwtFilterTest {
         given(request.getRequestURI()).willReturn(DEFAULT_API_URI);
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(token);
-        given(jwtUtil.extractClaims(token)).willThrow(new RuntimeException("Unexpected error!"));
+        given(jwtUtil.verifyToken(token)).willThrow(new RuntimeException("Unexpected error!"));
         setupErrorResponse();
 
         // When
@@ -235,4 +276,81 @@ class JwtFilterTest {
         verify(response).setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
         verify(filterChain, never()).doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("무효화된 JWT는 401 Unauthorized 반환")
+    void doFilter_RevokedJwt_ShouldReturnUnauthorized() throws IOException, ServletException {
+        // Given
+        given(request.getRequestURI()).willReturn(DEFAULT_API_URI);
+        setupToken("revoked-token", UserRole.USER, "1", "user@example.com");
+        given(tokenRevocationStore.isRevoked(any(VerifiedToken.class))).willReturn(true);
+        setupErrorResponse();
+
+        // When
+        jwtFilter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(response).setStatus(HttpStatus.UNAUTHORIZED.value());
+        verify(request, never()).setAttribute(eq(AuthUser.ATTRIBUTE), any());
+        verify(filterChain, never()).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("한 번 검증한 JWT는 캐시에서 꺼내 재검증하지 않음")
+    void doFilter_CachedJwt_ShouldSkipVerification() throws IOException, ServletException {
+        // Given
+        String token = "cached-token";
+        String bearerToken = "Bearer " + token;
+        VerifiedToken verifiedToken = new VerifiedToken(1L, "user@example.com", UserRole.USER,
+            System.currentTimeMillis() + 60_000L);
+
+        given(request.getRequestURI()).willReturn(DEFAULT_API_URI);
+        given(request.getHeader("Authorization")).willReturn(bearerToken);
+        given(jwtUtil.substringToken(bearerToken)).willReturn(token);
+        given(jwtUtil.verifyToken(token)).willReturn(verifiedToken);
+
+        // When
+        jwtFilter.doFilter(request, response, filterChain);
+        jwtFilter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(jwtUtil, times(1)).verifyToken(token);
+        // 캐시된 토큰은 같은 AuthUser 객체를 재사용
+        verify(request, times(2)).setAttribute(AuthUser.ATTRIBUTE, verifiedToken.getAuthUser());
+        verify(filterChain, times(2)).doFilter(request, response);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/admin;x=1/users/2", "/admin/users;x/2", "/%61dmin/users/2", "/admin/users/2;jsessionid=1"})
+    @DisplayName("경로 파라미터(;)나 퍼센트 인코딩으로 바꾼 ADMIN 경로도 USER 역할이면 403 Forbidden 반환")
+    void doFilter_ObfuscatedAdminUrl_WithUserRole_ShouldReturnForbidden(String uri)
+        throws IOException, ServletException {
+        // Given
+        given(request.getRequestURI()).willReturn(uri);
+        given(request.getMethod()).willReturn("PATCH");
+        setupToken("user-token", UserRole.USER, "2", "user@example.com");
+        setupErrorResponse();
+
+        // When
+        jwtFilter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(response).setStatus(HttpStatus.FORBIDDEN.value());
+        verify(filterChain, never()).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("컨텍스트 경로를 뺀 경로로 접근 수준을 판단한다")
+    void doFilter_WithContextPath_ResolvesPathWithinApplication() throws IOException, ServletException {
+        // Given
+        given(request.getContextPath()).willReturn("/app");
+        given(request.getRequestURI()).willReturn("/app/auth/login");
+
+        // When
+        jwtFilter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain, times(1)).doFilter(request, response);
+        verify(jwtUtil, never()).substringToken(anyString());
+    }
+}
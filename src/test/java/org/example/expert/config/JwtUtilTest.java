@@ -0,0 +1,119 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.util.Base64;
+import java.util.Date;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtUtilTest {
+
+    private static final String SECRET_KEY =
+        "05b6dbbb6909e285402841ea484cf4632cae6f7bf490cf24f9ced716804a0abe137ae48a8c09f4e33cb255fe41b1864701eb3694e67b41b5a6c9cd3a57d51c3c";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("직접 발급한 토큰은 빠른 경로에서 jjwt 파서와 같은 값을 추출한다")
+    void verifyIssuedToken_MatchesJjwtClaims() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.ADMIN));
+        Claims claims = jwtUtil.extractClaims(token);
+
+        // when
+        VerifiedToken verifiedToken = jwtUtil.verifyIssuedToken(token);
+
+        // then
+        assertThat(verifiedToken).isNotNull();
+        assertThat(verifiedToken.getUserId()).isEqualTo(Long.parseLong(claims.getSubject()));
+        assertThat(verifiedToken.getEmail()).isEqualTo(claims.get("email", String.class));
+        assertThat(verifiedToken.getUserRole().name()).isEqualTo(claims.get("userRole", String.class));
+        assertThat(verifiedToken.getExpiresAt()).isEqualTo(claims.getExpiration().getTime());
+        assertThat(verifiedToken.getJti()).isNotNull().isEqualTo(claims.getId());
+        assertThat(verifiedToken.getIssuedAt()).isEqualTo(claims.getIssuedAt().getTime());
+    }
+
+    @Test
+    @DisplayName("발급한 토큰마다 서로 다른 jti 를 갖는다")
+    void createToken_AssignsUniqueJti() {
+        // given
+        String first = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.USER));
+        String second = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.USER));
+
+        // when & then
+        assertThat(jwtUtil.verifyToken(first).getJti()).isNotEqualTo(jwtUtil.verifyToken(second).getJti());
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 빠른 경로를 통과하지 못하고 SignatureException 이 발생한다")
+    void verifyToken_TamperedSignature_ThrowsSignatureException() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.USER));
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A')
+            + token.charAt(token.length() - 1);
+
+        // when & then
+        assertThat(jwtUtil.verifyIssuedToken(tampered)).isNull();
+        assertThrows(SignatureException.class, () -> jwtUtil.verifyToken(tampered));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 ExpiredJwtException 이 발생한다")
+    void verifyToken_Expired_ThrowsExpiredJwtException() {
+        // given
+        long now = System.currentTimeMillis();
+        String token = Jwts.builder()
+            .setSubject("1")
+            .claim("email", "test@test.com")
+            .claim("userRole", UserRole.USER)
+            .setExpiration(new Date(now - 1_000L))
+            .setIssuedAt(new Date(now - 60_000L))
+            .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY)), SignatureAlgorithm.HS256)
+            .compact();
+
+        // when & then
+        assertThat(jwtUtil.verifyIssuedToken(token)).isNull();
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verifyToken(token));
+    }
+
+    @Test
+    @DisplayName("다른 헤더를 가진 토큰은 jjwt 파서로 검증한다")
+    void verifyToken_OtherHeader_FallsBackToJjwt() {
+        // given
+        String token = Jwts.builder()
+            .setHeaderParam("typ", "JWT")
+            .setSubject("2")
+            .claim("email", "other@test.com")
+            .claim("userRole", UserRole.USER)
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+            .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY)), SignatureAlgorithm.HS256)
+            .compact();
+
+        // when
+        VerifiedToken verifiedToken = jwtUtil.verifyToken(token);
+
+        // then
+        assertThat(jwtUtil.verifyIssuedToken(token)).isNull();
+        assertThat(verifiedToken.getUserId()).isEqualTo(2L);
+        assertThat(verifiedToken.getEmail()).isEqualTo("other@test.com");
+    }
+}
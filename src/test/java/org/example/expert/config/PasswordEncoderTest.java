@@ -1,17 +1,24 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
-    private PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor =
+            new PasswordHashExecutor(1, 10, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder(passwordHashExecutor, 4, 0);
+
+    @AfterEach
+    void tearDown() {
+        passwordHashExecutor.shutdown();
+    }
 
     @Test
     void matches_메서드가_정상적으로_동작한다() {
@@ -25,4 +32,67 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 비밀번호가_다르면_matches_가_false_를_반환한다() {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+
+        // when
+        boolean matches = passwordEncoder.matches("wrongPassword", encodedPassword);
+
+        // then
+        assertFalse(matches);
+    }
+
+    @Test
+    void 해시_문자열에서_cost_를_읽는다() {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+
+        // when & then
+        assertEquals(4, PasswordEncoder.costOf(encodedPassword));
+        assertEquals(12, PasswordEncoder.costOf("$2a$12$abcdefghijklmnopqrstuv"));
+        assertEquals(-1, PasswordEncoder.costOf("plain-text"));
+    }
+
+    @Test
+    void cost_가_낮은_해시는_재해싱이_필요하다() {
+        // given
+        PasswordEncoder higherCostEncoder = new PasswordEncoder(passwordHashExecutor, 5, 0);
+        String encodedPassword = passwordEncoder.encode("testPassword");
+
+        // when & then
+        assertFalse(passwordEncoder.needsRehash(encodedPassword));
+        assertTrue(higherCostEncoder.needsRehash(encodedPassword));
+        assertTrue(higherCostEncoder.needsRehash("plain-text"));
+    }
+
+    @Test
+    void cost_가_더_높은_해시는_재해싱하지_않는다() {
+        // given
+        PasswordEncoder higherCostEncoder = new PasswordEncoder(passwordHashExecutor, 5, 0);
+        String higherCostPassword = higherCostEncoder.encode("testPassword");
+
+        // when & then
+        assertFalse(passwordEncoder.needsRehash(higherCostPassword));
+    }
+
+    @Test
+    void 목표_지연시간이_짧으면_최소_cost_로_보정된다() {
+        // when
+        int cost = PasswordEncoder.calibrateCost(0);
+
+        // then
+        assertEquals(4, cost);
+    }
+
+    @Test
+    void 목표_지연시간_안에서_cost_를_올린다() {
+        // when
+        PasswordEncoder calibrated = new PasswordEncoder(passwordHashExecutor, 0, 50);
+
+        // then
+        assertTrue(calibrated.getCost() > 4);
+    }
 }
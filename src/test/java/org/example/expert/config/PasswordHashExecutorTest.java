@@ -0,0 +1,111 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PasswordHashExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashExecutor passwordHashExecutor = new PasswordHashExecutor(1, 1, Duration.ofSeconds(5), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        passwordHashExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 결과를 호출 스레드로 돌려주고 지연 시간을 기록한다")
+    void encode_ReturnsResultAndRecordsLatency() {
+        // when
+        String result = passwordHashExecutor.encode(() -> Thread.currentThread().getName());
+
+        // then
+        assertThat(result).startsWith("password-hash-");
+        assertThat(meterRegistry.get("password.hash.latency").tag("operation", "encode").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 모두 차면 즉시 ServiceUnavailableException 으로 거절한다")
+    void execute_PoolAndQueueFull_RejectsImmediately() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordHashExecutor.matches(() -> {
+            started.countDown();
+            await(release);
+            return true;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordHashExecutor.matches(() -> true));
+        waitUntilQueued();
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> passwordHashExecutor.matches(() -> true));
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.queue.size").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 wait-timeout 을 넘으면 ServiceUnavailableException 으로 돌려보낸다")
+    void execute_WaitExceedsTimeout_RejectsWithServiceUnavailable() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordHashExecutor executor = new PasswordHashExecutor(1, 1, Duration.ofMillis(50), registry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            // when & then
+            assertThrows(ServiceUnavailableException.class, () -> executor.matches(() -> {
+                await(release);
+                return true;
+            }));
+            assertThat(registry.get("password.hash.timeout").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 RuntimeException 은 그대로 전달된다")
+    void execute_TaskThrows_PropagatesException() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> passwordHashExecutor.encode(() -> {
+            throw new InvalidRequestException("invalid");
+        }));
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("작업이 대기열에 들어가지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class RoutePolicyRegistryTest {
+
+    @Autowired
+    private RoutePolicyRegistry routePolicyRegistry;
+
+    @Test
+    @DisplayName("컨트롤러 매핑과 @Access 로 경로별 접근 수준을 만든다")
+    void resolve_FromControllerMappings() {
+        assertThat(routePolicyRegistry.resolve("POST", "/auth/signin")).isEqualTo(AccessLevel.PUBLIC);
+        assertThat(routePolicyRegistry.resolve("POST", "/auth/signout")).isEqualTo(AccessLevel.AUTHENTICATED);
+        assertThat(routePolicyRegistry.resolve("GET", "/todos/1/comments")).isEqualTo(AccessLevel.AUTHENTICATED);
+        assertThat(routePolicyRegistry.resolve("PATCH", "/admin/users/1")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(routePolicyRegistry.resolve("DELETE", "/admin/comments/1")).isEqualTo(AccessLevel.ADMIN);
+    }
+
+    @Test
+    @DisplayName("설정한 공개 경로는 인증 없이 허용하고 나머지 액추에이터 경로는 인증이 필요하다")
+    void resolve_ActuatorEndpoints() {
+        assertThat(routePolicyRegistry.resolve("GET", "/actuator/health")).isEqualTo(AccessLevel.PUBLIC);
+        assertThat(routePolicyRegistry.resolve("GET", "/actuator/health/db")).isEqualTo(AccessLevel.PUBLIC);
+        assertThat(routePolicyRegistry.resolve("GET", "/actuator/metrics")).isEqualTo(AccessLevel.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("Spring MVC 가 같은 핸들러로 보내는 변형 경로도 ADMIN 으로 판단한다")
+    void resolve_ObfuscatedAdminPaths() {
+        assertThat(routePolicyRegistry.resolve("PATCH", "/admin;x=1/users/2")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(routePolicyRegistry.resolve("PATCH", "/admin/users;x/2")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(routePolicyRegistry.resolve("PATCH", "/%61dmin/users/2")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(routePolicyRegistry.resolve("GET", "/admin/unmapped")).isEqualTo(AccessLevel.ADMIN);
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoutePolicyTableTest {
+
+    private final RoutePolicyTable table = RoutePolicyTable.builder()
+        .register("/auth/signin", List.of("POST"), AccessLevel.PUBLIC)
+        .register("/auth/signout", List.of("POST"), AccessLevel.AUTHENTICATED)
+        .register("/todos/{todoId}", List.of("GET"), AccessLevel.PUBLIC)
+        .register("/todos/{todoId}", List.of("DELETE"), AccessLevel.ADMIN)
+        .register("/todos/search", List.of("GET"), AccessLevel.AUTHENTICATED)
+        .register("/admin/**", List.of(), AccessLevel.ADMIN)
+        .register("/admin/users/{userId}", List.of("PATCH"), AccessLevel.ADMIN)
+        .override("/actuator/health/**", AccessLevel.PUBLIC)
+        .build();
+
+    @Test
+    @DisplayName("경로 변수가 없는 패턴은 메서드별 수준을 그대로 반환한다")
+    void resolve_ExactRoute() {
+        assertThat(table.resolve("POST", "/auth/signin")).isEqualTo(AccessLevel.PUBLIC);
+        assertThat(table.resolve("POST", "/auth/signout")).isEqualTo(AccessLevel.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("경로 변수 패턴은 HTTP 메서드별로 다른 수준을 가질 수 있다")
+    void resolve_VariableRoute_PerMethod() {
+        assertThat(table.resolve("GET", "/todos/1")).isEqualTo(AccessLevel.PUBLIC);
+        assertThat(table.resolve("HEAD", "/todos/1")).isEqualTo(AccessLevel.PUBLIC);
+        assertThat(table.resolve("DELETE", "/todos/1")).isEqualTo(AccessLevel.ADMIN);
+    }
+
+    @Test
+    @DisplayName("고정 세그먼트가 경로 변수보다 우선한다")
+    void resolve_LiteralBeforeVariable() {
+        assertThat(table.resolve("GET", "/todos/search")).isEqualTo(AccessLevel.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("끝의 ** 는 하위 경로 전체와 자기 자신에 일치한다")
+    void resolve_TrailingWildcard() {
+        assertThat(table.resolve("DELETE", "/admin/comments/1")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(table.resolve("GET", "/admin")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(table.resolve("GET", "/actuator/health/liveness")).isEqualTo(AccessLevel.PUBLIC);
+    }
+
+    @Test
+    @DisplayName("일치하는 패턴이나 메서드가 없으면 기본 수준을 반환한다")
+    void resolve_Unmatched_ReturnsDefault() {
+        assertThat(table.resolve("GET", "/unknown")).isEqualTo(AccessLevel.AUTHENTICATED);
+        assertThat(table.resolve("GET", "/auth/signin")).isEqualTo(AccessLevel.AUTHENTICATED);
+        assertThat(table.resolve("PUT", "/todos/1")).isEqualTo(AccessLevel.AUTHENTICATED);
+        assertThat(table.resolve(null, "/auth/signin")).isEqualTo(AccessLevel.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("경로 파라미터(;)를 떼고 퍼센트 디코딩한 경로로 판단한다")
+    void resolve_MatrixParamsAndEncodedSegments_Normalized() {
+        assertThat(table.resolve("POST", "/auth/signin;jsessionid=1")).isEqualTo(AccessLevel.PUBLIC);
+        assertThat(table.resolve("GET", "/todos;x=1/search")).isEqualTo(AccessLevel.AUTHENTICATED);
+        assertThat(table.resolve("PATCH", "/admin;x=1/users/2")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(table.resolve("PATCH", "/admin/users;x/2")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(table.resolve("PATCH", "/%61dmin/users/2")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(table.resolve("GET", "/%74odos/1")).isEqualTo(AccessLevel.PUBLIC);
+    }
+
+    @Test
+    @DisplayName("디코딩 후 '/' 가 생기는 세그먼트는 가장 엄격한 수준으로 판단한다")
+    void resolve_EncodedSlash_FailsClosed() {
+        assertThat(table.resolve("GET", "/todos%2F1")).isEqualTo(AccessLevel.ADMIN);
+    }
+
+    @Test
+    @DisplayName("floor 로 지정한 접두 경로 아래는 등록된 패턴보다 느슨해지지 않는다")
+    void resolve_Floor_AppliesToEveryPathUnderPrefix() {
+        // given
+        RoutePolicyTable floored = RoutePolicyTable.builder()
+            .register("/admin/ping", List.of("GET"), AccessLevel.PUBLIC)
+            .floor("/admin", AccessLevel.ADMIN)
+            .build();
+
+        // when & then
+        assertThat(floored.resolve("GET", "/admin/ping")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(floored.resolve("PATCH", "/admin/users/1")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(floored.resolve("GET", "//admin")).isEqualTo(AccessLevel.ADMIN);
+        assertThat(floored.resolve("GET", "/administrators")).isEqualTo(AccessLevel.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("같은 경로에 여러 수준이 등록되면 더 엄격한 쪽을 사용한다")
+    void register_Duplicate_UsesStricter() {
+        // given
+        RoutePolicyTable duplicated = RoutePolicyTable.builder()
+            .register("/todos", List.of("GET"), AccessLevel.ADMIN)
+            .register("/todos", List.of("GET"), AccessLevel.PUBLIC)
+            .build();
+
+        // when & then
+        assertThat(duplicated.resolve("GET", "/todos")).isEqualTo(AccessLevel.ADMIN);
+    }
+
+    @Test
+    @DisplayName("중간에 위치한 ** 는 지원하지 않는다")
+    void register_WildcardInMiddle_Throws() {
+        assertThrows(IllegalArgumentException.class, () ->
+            RoutePolicyTable.builder().register("/a/**/b", List.of(), AccessLevel.PUBLIC));
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.expert.config.adminlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdminLogDispatcherTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<AdminLogEvent> written = new CopyOnWriteArrayList<>();
+    private AdminLogDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("발행한 이벤트는 소비 스레드가 sink 에 순서대로 전달하고, 종료 시 남은 이벤트도 기록한다")
+    void publish_전달() throws InterruptedException {
+        // given
+        dispatcher = dispatcher(16, OverflowPolicy.DROP, written::addAll);
+        dispatcher.start();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(dispatcher.publish(event(i))).isTrue();
+        }
+        dispatcher.shutdown();
+
+        // then
+        assertThat(written).extracting(AdminLogEvent::getUserId)
+                .containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(dispatcher.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("sink 에서 예외가 나도 소비 스레드는 계속 동작한다")
+    void sink_예외() throws InterruptedException {
+        // given
+        AtomicBoolean failed = new AtomicBoolean();
+        dispatcher = dispatcher(16, OverflowPolicy.DROP, batch -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("boom");
+            }
+            written.addAll(batch);
+        });
+        dispatcher.start();
+
+        // when
+        dispatcher.publish(event(1));
+        awaitUntil(failed::get);
+        dispatcher.publish(event(2));
+        dispatcher.shutdown();
+
+        // then
+        assertThat(written).extracting(AdminLogEvent::getUserId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("DROP 정책에서 버퍼가 가득 차면 버리고 카운터를 올린다")
+    void DROP_정책() {
+        // given - 소비 스레드를 시작하지 않아 버퍼가 비워지지 않는다
+        dispatcher = dispatcher(2, OverflowPolicy.DROP, written::addAll);
+        dispatcher.publish(event(1));
+        dispatcher.publish(event(2));
+
+        // when
+        boolean accepted = dispatcher.publish(event(3));
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(meterRegistry.get("admin.log.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("admin.log.queue.size").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("BLOCK 정책에서는 빈 칸이 생길 때까지 기다렸다가 넣는다")
+    void BLOCK_정책() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher = dispatcher(2, OverflowPolicy.BLOCK, batch -> {
+            await(release);
+            written.addAll(batch);
+        });
+        dispatcher.start();
+        dispatcher.publish(event(1));
+        awaitUntil(() -> dispatcher.pending() == 0); // 소비 스레드가 1번을 꺼내 sink 에서 대기 중
+        dispatcher.publish(event(2)); // 버퍼를 다시 채운다
+        dispatcher.publish(event(3));
+
+        // when
+        Thread producer = new Thread(() -> dispatcher.publish(event(4)));
+        producer.start();
+        producer.join(200);
+        boolean blocked = producer.isAlive();
+        release.countDown();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        dispatcher.shutdown();
+
+        // then
+        assertThat(blocked).isTrue();
+        assertThat(written).extracting(AdminLogEvent::getUserId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(meterRegistry.get("admin.log.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("모든 이벤트가 필요한 감사 sink 가 있으면 DROP 정책이어도 버리지 않고 기다린다")
+    void DROP_정책_감사_sink() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        AdminLogSink auditSink = new AdminLogSink() {
+            @Override
+            public void write(List<AdminLogEvent> batch) {
+                await(release);
+                written.addAll(batch);
+            }
+
+            @Override
+            public boolean requiresEveryEvent() {
+                return true;
+            }
+        };
+        dispatcher = new AdminLogDispatcher(2, OverflowPolicy.DROP, 4, Duration.ofMillis(1), List.of(auditSink), meterRegistry);
+        dispatcher.start();
+        dispatcher.publish(event(1));
+        awaitUntil(() -> dispatcher.pending() == 0); // 소비 스레드가 1번을 꺼내 sink 에서 대기 중
+        dispatcher.publish(event(2));
+        dispatcher.publish(event(3));
+
+        // when
+        Thread producer = new Thread(() -> dispatcher.publish(event(4)));
+        producer.start();
+        producer.join(200);
+        boolean blocked = producer.isAlive();
+        release.countDown();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        dispatcher.shutdown();
+
+        // then
+        assertThat(blocked).isTrue();
+        assertThat(written).extracting(AdminLogEvent::getUserId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(meterRegistry.get("admin.log.dropped").counter().count()).isZero();
+    }
+
+    private AdminLogDispatcher dispatcher(int capacity, OverflowPolicy policy, AdminLogSink sink) {
+        return new AdminLogDispatcher(capacity, policy, 4, Duration.ofMillis(1), List.of(sink), meterRegistry);
+    }
+
+    private static AdminLogEvent event(long userId) {
+        return new AdminLogEvent("method", userId, "/admin/test", 0L, 0L, new Object[0], null, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.expert.config.adminlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdminLogPayloadWriterTest {
+
+    private static final String[] REDACTED = {"oldPassword", "newPassword"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("인자들을 \", \" 로 이어 JSON 으로 쓴다")
+    void writeArgs() {
+        // given
+        AdminLogPayloadWriter writer = new AdminLogPayloadWriter(objectMapper, 1024, REDACTED);
+
+        // when
+        String body = writer.writeArgs(new Object[]{1L, new UserRoleChangeRequest("ADMIN")});
+
+        // then
+        assertThat(body).isEqualTo("1, {\"role\":\"ADMIN\"}");
+        assertThat(writer.writeArgs(new Object[0])).isEmpty();
+        assertThat(writer.write(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가려야 할 필드는 값 대신 마스킹 문자열로 쓴다")
+    void redaction() {
+        // given
+        AdminLogPayloadWriter writer = new AdminLogPayloadWriter(objectMapper, 1024, REDACTED);
+
+        // when
+        String body = writer.write(new UserChangePasswordRequest("old-Password1", "new-Password1"));
+
+        // then
+        assertThat(body).isEqualTo("{\"oldPassword\":\"****\",\"newPassword\":\"****\"}");
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 앞부분만 남기고 잘림 표시를 붙인다")
+    void truncation() {
+        // given
+        AdminLogPayloadWriter writer = new AdminLogPayloadWriter(objectMapper, 16, REDACTED);
+
+        // when
+        String body = writer.write(new UserRoleChangeRequest("A".repeat(100)));
+
+        // then
+        assertThat(body).isEqualTo("{\"role\":\"AAAAAAA" + AdminLogPayloadWriter.TRUNCATED);
+
+        // 버퍼를 재사용해도 이전 결과가 남지 않는다
+        assertThat(writer.write(new UserRoleChangeRequest("ADMIN"))).isEqualTo("{\"role\":\"ADMIN\"}");
+    }
+
+    @Test
+    @DisplayName("UTF-8 문자 중간에서 잘리면 그 문자는 버린다")
+    void truncation_UTF8_경계() {
+        // given - {"role":"  (9바이트) 뒤에 3바이트 한글, 11바이트 예산이면 두 번째 바이트에서 잘린다
+        AdminLogPayloadWriter writer = new AdminLogPayloadWriter(objectMapper, 11, REDACTED);
+
+        // when
+        String body = writer.write(new UserRoleChangeRequest("관리자"));
+
+        // then
+        assertThat(body).isEqualTo("{\"role\":\"" + AdminLogPayloadWriter.TRUNCATED);
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 남은 필드는 직렬화하지 않는다")
+    void truncation_조기_중단() {
+        // given
+        AtomicInteger reads = new AtomicInteger();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            items.add(new Item(reads));
+        }
+        AdminLogPayloadWriter writer = new AdminLogPayloadWriter(objectMapper, 256, REDACTED);
+
+        // when
+        String body = writer.write(items);
+
+        // then
+        assertThat(body).endsWith(AdminLogPayloadWriter.TRUNCATED);
+        assertThat(reads.get()).isLessThan(1_000);
+    }
+
+    public static class Item {
+
+        private final AtomicInteger reads;
+
+        Item(AtomicInteger reads) {
+            this.reads = reads;
+        }
+
+        public String getName() {
+            reads.incrementAndGet();
+            return "item";
+        }
+    }
+}
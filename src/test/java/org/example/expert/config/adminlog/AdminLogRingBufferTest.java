@@ -0,0 +1,94 @@
+package org.example.expert.config.adminlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdminLogRingBufferTest {
+
+    @Test
+    @DisplayName("용량은 최소 2, 2의 거듭제곱으로 올림된다")
+    void capacity_올림() {
+        assertThat(new AdminLogRingBuffer<>(1).capacity()).isEqualTo(2);
+        assertThat(new AdminLogRingBuffer<>(5).capacity()).isEqualTo(8);
+        assertThat(new AdminLogRingBuffer<>(8).capacity()).isEqualTo(8);
+        assertThatThrownBy(() -> new AdminLogRingBuffer<>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고 가득 차면 offer 가 false 를 반환한다")
+    void offer_drain_FIFO() {
+        // given
+        AdminLogRingBuffer<Integer> buffer = new AdminLogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // when
+        boolean overflow = buffer.offer(4);
+        List<Integer> drained = new ArrayList<>();
+        int count = buffer.drain(drained::add, 3);
+
+        // then
+        assertThat(overflow).isFalse();
+        assertThat(count).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+        assertThat(buffer.size()).isEqualTo(1);
+
+        // 꺼낸 칸은 다시 쓸 수 있다
+        assertThat(buffer.offer(4)).isTrue();
+        buffer.drain(drained::add, 10);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 유실이나 중복 없이 꺼낸다")
+    void 동시_생산자() throws InterruptedException {
+        // given
+        int producers = 4;
+        int perProducer = 10_000;
+        AdminLogRingBuffer<Integer> buffer = new AdminLogRingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        Set<Integer> received = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received.size() < producers * perProducer && System.nanoTime() < deadline) {
+            if (buffer.drain(value -> assertThat(received.add(value)).isTrue(), 32) == 0) {
+                Thread.yield();
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(received).hasSize(producers * perProducer);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.expert.config.adminlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditSegmentReaderTest {
+
+    private static final int SEGMENT_SIZE = 512;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("scan 은 [from, to) 범위의 레코드만 세그먼트 순서대로 넘긴다")
+    void scan() throws IOException {
+        // given - 세그먼트 여러 개에 걸쳐 기록
+        AuditSegmentWriter writer = new AuditSegmentWriter(directory, SEGMENT_SIZE);
+        for (long time = 0; time < 30; time++) {
+            writer.append(record(time));
+        }
+        writer.close();
+        assertThat(AuditSegmentFormat.listSegments(directory)).hasSizeGreaterThan(2);
+
+        // when
+        List<AuditRecord> records = new ArrayList<>();
+        new AuditSegmentReader(directory).scan(10, 20, records::add);
+
+        // then
+        assertThat(records).extracting(AuditRecord::getRequestTime)
+                .containsExactly(10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L);
+    }
+
+    @Test
+    @DisplayName("tail 은 이전 위치 이후에 쓰인 레코드만 읽고, 세그먼트가 넘어가도 이어서 읽는다")
+    void tail() throws IOException {
+        // given
+        AuditSegmentWriter writer = new AuditSegmentWriter(directory, SEGMENT_SIZE);
+        AuditSegmentReader reader = new AuditSegmentReader(directory);
+        List<AuditRecord> records = new ArrayList<>();
+
+        writer.append(record(1));
+        writer.append(record(2));
+        AuditSegmentReader.Position position = reader.tail(AuditSegmentReader.Position.START, records::add);
+        assertThat(records).extracting(AuditRecord::getRequestTime).containsExactly(1L, 2L);
+
+        // when - 쓰는 중인 세그먼트에 이어 쓰고, 다음 세그먼트로 넘어갈 만큼 더 쓴다
+        records.clear();
+        for (long time = 3; time <= 20; time++) {
+            writer.append(record(time));
+        }
+        position = reader.tail(position, records::add);
+        AuditSegmentReader.Position idle = reader.tail(position, record -> {
+            throw new AssertionError("새 레코드가 없어야 한다");
+        });
+        writer.close();
+
+        // then
+        assertThat(writer.currentSegmentIndex()).isGreaterThan(0);
+        assertThat(records).extracting(AuditRecord::getRequestTime).hasSize(18).startsWith(3L).endsWith(20L);
+        assertThat(position.getSegmentIndex()).isEqualTo(writer.currentSegmentIndex());
+        assertThat(idle.getOffset()).isEqualTo(position.getOffset());
+    }
+
+    private static AuditRecord record(long requestTime) {
+        return new AuditRecord(requestTime, 1L, "changeUserRole", "/admin/users/1", "{\"role\":\"ADMIN\"}", false, 0L, null);
+    }
+}
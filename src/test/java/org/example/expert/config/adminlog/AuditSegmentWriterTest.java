@@ -0,0 +1,138 @@
+package org.example.expert.config.adminlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditSegmentWriterTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 레코드를 그대로 읽는다")
+    void append_읽기() throws IOException {
+        // given
+        AuditSegmentWriter writer = new AuditSegmentWriter(directory, SEGMENT_SIZE);
+
+        // when
+        writer.append(new AuditRecord(1_000L, 1L, "changeUserRole", "/admin/users/2", "2, {\"role\":\"ADMIN\"}", false, 5_000L, null));
+        writer.append(new AuditRecord(2_000L, null, "deleteComment", "/admin/comments/3", "3", true, 7_000L, "댓글 없음"));
+        writer.close();
+
+        // then
+        List<AuditRecord> records = readAll();
+        assertThat(records).hasSize(2);
+        AuditRecord first = records.get(0);
+        assertThat(first.getRequestTime()).isEqualTo(1_000L);
+        assertThat(first.getUserId()).isEqualTo(1L);
+        assertThat(first.getMethodName()).isEqualTo("changeUserRole");
+        assertThat(first.getRequestUri()).isEqualTo("/admin/users/2");
+        assertThat(first.getRequestBody()).isEqualTo("2, {\"role\":\"ADMIN\"}");
+        assertThat(first.isFailed()).isFalse();
+        assertThat(first.getDurationNanos()).isEqualTo(5_000L);
+        assertThat(first.getErrorMessage()).isNull();
+        AuditRecord second = records.get(1);
+        assertThat(second.getUserId()).isNull();
+        assertThat(second.isFailed()).isTrue();
+        assertThat(second.getErrorMessage()).isEqualTo("댓글 없음");
+    }
+
+    @Test
+    @DisplayName("세그먼트에 자리가 없으면 다음 세그먼트로 넘어가고, 세그먼트보다 큰 레코드는 쓰지 않는다")
+    void append_롤오버() throws IOException {
+        // given
+        AuditSegmentWriter writer = new AuditSegmentWriter(directory, SEGMENT_SIZE);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            assertThat(writer.append(record(i, "x".repeat(100)))).isTrue();
+        }
+        boolean tooLarge = writer.append(record(99, "x".repeat(SEGMENT_SIZE)));
+        writer.close();
+
+        // then
+        assertThat(tooLarge).isFalse();
+        assertThat(writer.currentSegmentIndex()).isGreaterThan(0);
+        assertThat(AuditSegmentFormat.listSegments(directory)).hasSize((int) writer.currentSegmentIndex() + 1);
+        assertThat(readAll()).extracting(AuditRecord::getRequestTime)
+                .containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L);
+    }
+
+    @Test
+    @DisplayName("다시 열면 마지막 완성된 레코드 뒤부터 이어 쓰고, 깨진 꼬리는 덮어쓴다")
+    void recover() throws IOException {
+        // given
+        AuditSegmentWriter writer = new AuditSegmentWriter(directory, SEGMENT_SIZE);
+        writer.append(record(1, "a"));
+        int end = writer.position();
+        writer.append(record(2, "b"));
+        writer.close();
+        corrupt(directory.resolve(AuditSegmentFormat.fileName(0)), end + 10); // 두 번째 레코드가 쓰이다 만 상태
+
+        // when
+        AuditSegmentWriter reopened = new AuditSegmentWriter(directory, SEGMENT_SIZE);
+        int recoveredPosition = reopened.position();
+        reopened.append(record(3, "c"));
+        reopened.close();
+
+        // then
+        assertThat(recoveredPosition).isEqualTo(end);
+        assertThat(readAll()).extracting(AuditRecord::getRequestTime).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("다시 열면 헤더의 최소/최대 시각을 남은 레코드로 다시 계산한다")
+    void recover_헤더_시각_범위() throws IOException {
+        // given
+        AuditSegmentWriter writer = new AuditSegmentWriter(directory, SEGMENT_SIZE);
+        writer.append(record(2_000, "a"));
+        writer.append(record(1_000, "b"));
+        writer.close();
+        Path file = directory.resolve(AuditSegmentFormat.fileName(0));
+        corrupt(file, AuditSegmentFormat.MIN_TIME_OFFSET); // 헤더 범위가 레코드를 덮지 못하는 상태
+        corrupt(file, AuditSegmentFormat.MAX_TIME_OFFSET);
+
+        // when
+        new AuditSegmentWriter(directory, SEGMENT_SIZE).close();
+
+        // then
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, AuditSegmentFormat.SEGMENT_HEADER_SIZE);
+            assertThat(header.getLong(AuditSegmentFormat.MIN_TIME_OFFSET)).isEqualTo(1_000L);
+            assertThat(header.getLong(AuditSegmentFormat.MAX_TIME_OFFSET)).isEqualTo(2_000L);
+        }
+        List<AuditRecord> records = new ArrayList<>();
+        new AuditSegmentReader(directory).scan(1_000, 2_001, records::add);
+        assertThat(records).extracting(AuditRecord::getRequestTime).containsExactly(2_000L, 1_000L);
+    }
+
+    private static AuditRecord record(long requestTime, String body) {
+        return new AuditRecord(requestTime, 1L, "changeUserRole", "/admin/users/1", body, false, 0L, null);
+    }
+
+    private List<AuditRecord> readAll() throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        new AuditSegmentReader(directory).tail(AuditSegmentReader.Position.START, records::add);
+        return records;
+    }
+
+    private static void corrupt(Path file, int position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            buffer.put(position, (byte) (buffer.get(position) ^ 0xFF));
+            buffer.force();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.expert.config.adminlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcAdminAuditSinkTest {
+
+    private final AtomicLong now = new AtomicLong(0L);
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(now.get());
+        }
+    };
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcAdminAuditSink sink;
+
+    @BeforeEach
+    void setUp() {
+        AdminLogPayloadWriter payloadWriter = new AdminLogPayloadWriter(new ObjectMapper(), 1024, new String[]{"password"});
+        sink = new JdbcAdminAuditSink(jdbcTemplate, payloadWriter, 3, Duration.ofSeconds(1), clock);
+    }
+
+    @Test
+    @DisplayName("flush-size 개가 모이면 한 번의 배치 INSERT 로 저장한다")
+    @SuppressWarnings("unchecked")
+    void write_크기_기준() {
+        // when
+        sink.write(List.of(event(1L, null), event(2L, null)));
+        sink.poll();
+
+        // then - 아직 2건이고 시간도 지나지 않았다
+        verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyList(), any(int[].class));
+
+        // when
+        sink.write(List.of(event(3L, "boom")));
+
+        // then
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(JdbcAdminAuditSink.INSERT_SQL), rows.capture(), any(int[].class));
+        assertThat(rows.getValue()).hasSize(3);
+        Object[] failed = rows.getValue().get(2);
+        assertThat(failed[1]).isEqualTo(3L);
+        assertThat(failed[4]).isEqualTo("{\"password\":\"****\"}");
+        assertThat(failed[5]).isEqualTo(false);
+        assertThat(failed[7]).isEqualTo("boom");
+        assertThat(sink.pendingSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("가장 오래된 행이 flush-interval 을 넘기면 poll 에서 저장한다")
+    void poll_시간_기준() {
+        // given
+        sink.write(List.of(event(1L, null)));
+
+        // when
+        now.addAndGet(999);
+        sink.poll();
+        verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyList(), any(int[].class));
+        now.addAndGet(1);
+        sink.poll();
+
+        // then
+        verify(jdbcTemplate, times(1)).batchUpdate(any(String.class), anyList(), any(int[].class));
+        assertThat(sink.pendingSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 flush 는 남은 행을 모두 저장하고, 저장에 실패해도 버퍼를 비운다")
+    void flush_실패() {
+        // given
+        given(jdbcTemplate.batchUpdate(any(String.class), anyList(), any(int[].class)))
+                .willThrow(new DataAccessResourceFailureException("down"));
+        sink.write(List.of(event(1L, null)));
+
+        // when
+        sink.flush();
+
+        // then
+        verify(jdbcTemplate, times(1)).batchUpdate(any(String.class), anyList(), any(int[].class));
+        assertThat(sink.pendingSize()).isZero();
+    }
+
+    private static AdminLogEvent event(long userId, String errorMessage) {
+        List<Object> body = new ArrayList<>();
+        body.add(new Credentials());
+        return new AdminLogEvent("changeUserRole", userId, "/admin/users/" + userId, 0L, 1_000_000L,
+                body.toArray(), null, errorMessage);
+    }
+
+    public static class Credentials {
+
+        public String getPassword() {
+            return "secret";
+        }
+    }
+}
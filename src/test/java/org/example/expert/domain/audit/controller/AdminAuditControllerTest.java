@@ -0,0 +1,52 @@
+package org.example.expert.domain.audit.controller;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.audit.service.AdminAuditService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(AdminAuditController.class)
+public class AdminAuditControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AdminAuditService adminAuditService;
+
+    @Test
+    @DisplayName("관리자 감사 기록 조회 성공 테스트")
+    public void getAudits_Success() throws Exception {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 2, 0, 0);
+        AdminAuditResponse audit = new AdminAuditResponse(1L, from.plusHours(1), 1L, "changeUserRole",
+                "/admin/users/2", "{\"role\":\"ADMIN\"}", true, 3L, null);
+        given(adminAuditService.getAudits(eq(1L), eq("/admin/users"), eq(from), eq(to), eq(1), eq(10)))
+                .willReturn(new PageImpl<>(List.of(audit), PageRequest.of(0, 10), 1));
+
+        // when & then
+        mockMvc.perform(get("/admin/audits")
+                .param("userId", "1")
+                .param("uri", "/admin/users")
+                .param("from", "2024-01-01T00:00:00")
+                .param("to", "2024-01-02T00:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].methodName").value("changeUserRole"))
+            .andExpect(jsonPath("$.content[0].requestUri").value("/admin/users/2"));
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.expert.domain.audit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.expert.domain.audit.repository.AdminAuditSpecifications.requestUriStartsWith;
+import static org.example.expert.domain.audit.repository.AdminAuditSpecifications.requestedAtBefore;
+import static org.example.expert.domain.audit.repository.AdminAuditSpecifications.requestedAtFrom;
+import static org.example.expert.domain.audit.repository.AdminAuditSpecifications.userIdEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.adminlog.AdminLogEvent;
+import org.example.expert.config.adminlog.AdminLogPayloadWriter;
+import org.example.expert.config.adminlog.JdbcAdminAuditSink;
+import org.example.expert.domain.audit.entity.AdminAudit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class AdminAuditRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private AdminAuditRepository adminAuditRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // JdbcAdminAuditSink 가 쓴 행을 JPA 로 읽을 수 있는지 함께 확인한다.
+        AdminLogPayloadWriter payloadWriter = new AdminLogPayloadWriter(new ObjectMapper(), 1024, new String[0]);
+        JdbcAdminAuditSink sink = new JdbcAdminAuditSink(jdbcTemplate, payloadWriter, 100, Duration.ofSeconds(1));
+        sink.write(List.of(
+                event(1L, "/admin/users/10", BASE, null),
+                event(1L, "/admin/comments/5", BASE.plusHours(1), null),
+                event(2L, "/admin/users/11", BASE.plusHours(2), "User not found"),
+                event(2L, "/admin/users_x/1", BASE.plusHours(3), null)
+        ));
+        sink.flush();
+    }
+
+    @Test
+    @DisplayName("사용자, URI 접두사, 기간 조건을 조합해 최신순으로 조회한다")
+    void findAll_조건_조합() {
+        // given
+        Specification<AdminAudit> spec = Specification.where(userIdEquals(null))
+                .and(requestUriStartsWith("/admin/users/"))
+                .and(requestedAtFrom(BASE))
+                .and(requestedAtBefore(BASE.plusHours(3)));
+
+        // when
+        Page<AdminAudit> page = adminAuditRepository.findAll(spec,
+                PageRequest.of(0, 10, Sort.by(Sort.Order.desc("requestedAt"), Sort.Order.desc("id"))));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(AdminAudit::getRequestUri)
+                .containsExactly("/admin/users/11", "/admin/users/10");
+        AdminAudit failed = page.getContent().get(0);
+        assertThat(failed.isSuccess()).isFalse();
+        assertThat(failed.getErrorMessage()).isEqualTo("User not found");
+        assertThat(failed.getRequestBody()).isEqualTo("{\"role\":\"ADMIN\"}");
+        assertThat(failed.getRequestedAt()).isEqualTo(BASE.plusHours(2));
+    }
+
+    @Test
+    @DisplayName("URI 의 '_' 는 LIKE 와일드카드가 아니라 문자 그대로 비교한다")
+    void findAll_URI_이스케이프() {
+        // when
+        List<AdminAudit> audits = adminAuditRepository.findAll(requestUriStartsWith("/admin/users_"));
+
+        // then
+        assertThat(audits).extracting(AdminAudit::getRequestUri).containsExactly("/admin/users_x/1");
+    }
+
+    @Test
+    @DisplayName("사용자 조건만 주면 해당 사용자의 기록만 조회한다")
+    void findAll_사용자() {
+        // when
+        List<AdminAudit> audits = adminAuditRepository.findAll(userIdEquals(1L));
+
+        // then
+        assertThat(audits).hasSize(2).allMatch(audit -> audit.getUserId() == 1L);
+    }
+
+    private static AdminLogEvent event(long userId, String uri, LocalDateTime requestedAt, String errorMessage) {
+        long epochMillis = requestedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new AdminLogEvent("changeUserRole", userId, uri, epochMillis, 2_000_000L,
+                new Object[]{new RoleBody()}, null, errorMessage);
+    }
+
+    public static class RoleBody {
+
+        public String getRole() {
+            return "ADMIN";
+        }
+    }
+}
@@ -9,8 +9,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.service.AuthService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,7 +39,7 @@ public class AuthControllerTest {
     public void signup_Success() throws Exception {
         // given
         SignupRequest request = new SignupRequest("test@test.com", "password", "USER");
-        SignupResponse response = new SignupResponse("bearer_token");
+        SignupResponse response = new SignupResponse("bearer_token", "refresh_token");
 
         given(authService.signup(any(SignupRequest.class))).willReturn(response);
 
@@ -46,7 +48,8 @@ public class AuthControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$.bearerToken").value("bearer_token"));
+            .andExpect(jsonPath("$.bearerToken").value("bearer_token"))
+            .andExpect(jsonPath("$.refreshToken").value("refresh_token"));
     }
 
     @Test
@@ -54,7 +57,7 @@ public class AuthControllerTest {
     public void signin_Success() throws Exception {
         // given
         SigninRequest request = new SigninRequest("test@test.com", "password");
-        SigninResponse response = new SigninResponse("bearer_token");
+        SigninResponse response = new SigninResponse("bearer_token", "refresh_token");
 
         given(authService.signin(any(SigninRequest.class))).willReturn(response);
 
@@ -91,4 +94,35 @@ public class AuthControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("토큰 재발급 성공 테스트")
+    public void refresh_Success() throws Exception {
+        // given
+        TokenRefreshRequest request = new TokenRefreshRequest("refresh_token");
+        TokenRefreshResponse response = new TokenRefreshResponse("new_bearer_token", "new_refresh_token");
+
+        given(authService.refresh(any(TokenRefreshRequest.class))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.bearerToken").value("new_bearer_token"))
+            .andExpect(jsonPath("$.refreshToken").value("new_refresh_token"));
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 테스트 - 리프레시 토큰 누락")
+    public void refresh_Failure_InvalidRequest() throws Exception {
+        // given
+        TokenRefreshRequest request = new TokenRefreshRequest("");
+
+        // when & then
+        mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+    }
+}
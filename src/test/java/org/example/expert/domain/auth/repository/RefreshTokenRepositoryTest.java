@@ -0,0 +1,48 @@
+package org.example.expert.domain.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class RefreshTokenRepositoryTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("토큰 해시로 사용자와 함께 조회하고, 두 번째 삭제는 0 건을 반환한다")
+    void findAndDeleteByTokenHash() {
+        // given
+        User user = userRepository.save(new User("refresh@test.com", "password", UserRole.USER));
+        refreshTokenRepository.save(new RefreshToken("a".repeat(64), user, LocalDateTime.now().plusDays(1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        RefreshToken found = refreshTokenRepository.findByTokenHashWithUser("a".repeat(64)).orElseThrow();
+        int firstDelete = refreshTokenRepository.deleteByTokenHash("a".repeat(64));
+        int secondDelete = refreshTokenRepository.deleteByTokenHash("a".repeat(64));
+
+        // then
+        assertThat(found.getUser().getEmail()).isEqualTo("refresh@test.com");
+        assertThat(firstDelete).isEqualTo(1);
+        assertThat(secondDelete).isZero();
+    }
+}
@@ -9,12 +9,16 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import io.jsonwebtoken.ExpiredJwtException;
 import java.util.Optional;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.VerifiedToken;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
@@ -39,6 +43,12 @@ public class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
     @InjectMocks
     private AuthService authService;
 
@@ -74,12 +84,14 @@ public class AuthServiceTest {
         given(passwordEncoder.encode(request.getPassword())).willReturn(encodedPassword);
         given(userRepository.save(any(User.class))).willReturn(user);
         given(jwtUtil.createToken(any(), anyString(), any(UserRole.class))).willReturn(token);
+        given(refreshTokenService.issue(any(), anyString(), any(UserRole.class))).willReturn("refresh_token");
 
         // when
         SignupResponse response = authService.signup(request);
 
         // then
         assertEquals(token, response.getBearerToken());
+        assertEquals("refresh_token", response.getRefreshToken());
 
         verify(userRepository, times(1)).existsByEmail(request.getEmail());
         verify(passwordEncoder, times(1)).encode(request.getPassword());
@@ -149,4 +161,91 @@ public class AuthServiceTest {
         verify(jwtUtil, times(1)).createToken(any(), anyString(), any(UserRole.class));
     }
 
+    @Test
+    @DisplayName("로그인 성공 시 cost 가 낮은 해시는 다시 해싱해 저장한다")
+    public void signin_Success_RehashesOutdatedHash() {
+        // given
+        SigninRequest request = new SigninRequest("test@test.com", "password");
+        User user = new User("test@test.com", "$2a$04$outdated", UserRole.USER);
+
+        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(request.getPassword(), "$2a$04$outdated")).willReturn(true);
+        given(passwordEncoder.needsRehash("$2a$04$outdated")).willReturn(true);
+        given(passwordEncoder.encode(request.getPassword())).willReturn("$2a$12$rehashed");
+        given(jwtUtil.createToken(any(), anyString(), any(UserRole.class))).willReturn("test_token");
+
+        // when
+        authService.signin(request);
+
+        // then
+        verify(userRepository, times(1)).updatePassword(user.getId(), "$2a$04$outdated", "$2a$12$rehashed");
+    }
+
+
+    @Test
+    @DisplayName("토큰 재발급 성공 테스트 - 리프레시 토큰을 소비하고 새 토큰 쌍을 발급한다")
+    public void refresh_Success() {
+        // given
+        TokenRefreshRequest request = new TokenRefreshRequest("old_refresh_token");
+        VerifiedToken owner = new VerifiedToken(1L, "test@test.com", UserRole.USER, Long.MAX_VALUE);
+
+        given(refreshTokenService.consume("old_refresh_token")).willReturn(owner);
+        given(jwtUtil.createToken(1L, "test@test.com", UserRole.USER)).willReturn("new_bearer_token");
+        given(refreshTokenService.issue(1L, "test@test.com", UserRole.USER)).willReturn("new_refresh_token");
+
+        // when
+        TokenRefreshResponse response = authService.refresh(request);
+
+        // then
+        assertEquals("new_bearer_token", response.getBearerToken());
+        assertEquals("new_refresh_token", response.getRefreshToken());
+
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 테스트 - 유효하지 않은 리프레시 토큰")
+    public void refresh_Failure_InvalidToken() {
+        // given
+        TokenRefreshRequest request = new TokenRefreshRequest("used_refresh_token");
+        given(refreshTokenService.consume("used_refresh_token"))
+            .willThrow(new AuthException("이미 사용된 리프레시 토큰입니다."));
+
+        // when & then
+        assertThrows(AuthException.class, () -> authService.refresh(request));
+
+        verify(jwtUtil, never()).createToken(any(), anyString(), any(UserRole.class));
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 테스트 - 검증한 액세스 토큰과 사용자의 리프레시 토큰을 무효화한다")
+    public void signout_Success() {
+        // given
+        VerifiedToken token = new VerifiedToken(1L, "test@test.com", UserRole.USER, Long.MAX_VALUE, "jti", 0L);
+
+        given(jwtUtil.substringToken("Bearer access_token")).willReturn("access_token");
+        given(jwtUtil.verifyToken("access_token")).willReturn(token);
+
+        // when
+        authService.signout("Bearer access_token");
+
+        // then
+        verify(tokenRevocationStore, times(1)).revoke(token);
+        verify(refreshTokenService, times(1)).revokeAll(1L);
+    }
+
+    @Test
+    @DisplayName("로그아웃 실패 테스트 - 만료된 토큰")
+    public void signout_Failure_ExpiredToken() {
+        // given
+        given(jwtUtil.substringToken("Bearer expired_token")).willReturn("expired_token");
+        given(jwtUtil.verifyToken("expired_token")).willThrow(new ExpiredJwtException(null, null, "expired"));
+
+        // when & then
+        assertThrows(AuthException.class, () -> authService.signout("Bearer expired_token"));
+
+        verify(tokenRevocationStore, never()).revoke(any());
+        verify(refreshTokenService, never()).revokeAll(any());
+    }
 }
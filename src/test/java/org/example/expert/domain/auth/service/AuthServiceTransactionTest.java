@@ -0,0 +1,59 @@
+package org.example.expert.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@SpringBootTest
+class AuthServiceTransactionTest {
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DataSource dataSource;
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("로그인 재해싱 중에는 트랜잭션과 DB 커넥션을 점유하지 않고, 새 해시는 따로 저장한다")
+    void signin_Rehash_HoldsNoConnection() {
+        // given
+        User user = userRepository.save(new User("rehash@test.com", "$2a$04$outdated", UserRole.USER));
+        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        AtomicInteger activeConnections = new AtomicInteger(-1);
+        given(passwordEncoder.matches("password", "$2a$04$outdated")).willReturn(true);
+        given(passwordEncoder.needsRehash("$2a$04$outdated")).willReturn(true);
+        given(passwordEncoder.encode("password")).willAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            activeConnections.set(hikariDataSource.getHikariPoolMXBean().getActiveConnections());
+            return "$2a$12$rehashed";
+        });
+
+        // when
+        authService.signin(new SigninRequest("rehash@test.com", "password"));
+
+        // then
+        assertThat(transactionActive.get()).isFalse();
+        assertThat(activeConnections.get()).isZero();
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo("$2a$12$rehashed");
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.expert.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import org.example.expert.config.VerifiedToken;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneId.of("UTC"));
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(
+            refreshTokenRepository, userRepository, Duration.ofDays(14), 100, CLOCK);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 원문이 아닌 해시로 저장된다")
+    void issue_SavesHashOnly() {
+        // given
+        given(userRepository.getReferenceById(1L)).willReturn(userOf(1L));
+
+        // when
+        String token = refreshTokenService.issue(1L, "test@test.com", UserRole.USER);
+
+        // then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getTokenHash()).hasSize(64).isNotEqualTo(token);
+        assertEquals(LocalDateTime.of(2024, 1, 15, 0, 0), captor.getValue().getExpiresAt());
+    }
+
+    @Test
+    @DisplayName("방금 발급한 토큰은 캐시에서 찾아 사용자 조회 없이 소비한다")
+    void consume_CacheHit_SkipsLookup() {
+        // given
+        given(userRepository.getReferenceById(1L)).willReturn(userOf(1L));
+        String token = refreshTokenService.issue(1L, "test@test.com", UserRole.USER);
+        given(refreshTokenRepository.deleteByTokenHash(anyString())).willReturn(1);
+
+        // when
+        VerifiedToken owner = refreshTokenService.consume(token);
+
+        // then
+        assertEquals(1L, owner.getUserId());
+        assertEquals("test@test.com", owner.getEmail());
+        assertEquals(UserRole.USER, owner.getUserRole());
+        verify(refreshTokenRepository, never()).findByTokenHashWithUser(anyString());
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 DB 에서 토큰과 사용자를 함께 조회한다")
+    void consume_CacheMiss_LoadsFromRepository() {
+        // given
+        User user = userOf(2L);
+        RefreshToken refreshToken = new RefreshToken("hash", user, LocalDateTime.of(2024, 1, 2, 0, 0));
+        given(refreshTokenRepository.findByTokenHashWithUser(anyString())).willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.deleteByTokenHash(anyString())).willReturn(1);
+
+        // when
+        VerifiedToken owner = refreshTokenService.consume("unknown-to-cache");
+
+        // then
+        assertEquals(2L, owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 AuthException 을 던진다")
+    void consume_Expired_ThrowsException() {
+        // given
+        RefreshToken refreshToken = new RefreshToken("hash", userOf(1L), LocalDateTime.of(2023, 12, 31, 0, 0));
+        given(refreshTokenRepository.findByTokenHashWithUser(anyString())).willReturn(Optional.of(refreshToken));
+
+        // when & then
+        assertThrows(AuthException.class, () -> refreshTokenService.consume("expired"));
+        verify(refreshTokenRepository, never()).deleteByTokenHash(anyString());
+    }
+
+    @Test
+    @DisplayName("이미 사용된 토큰(삭제 건수 0)은 AuthException 을 던진다")
+    void consume_AlreadyUsed_ThrowsException() {
+        // given
+        given(userRepository.getReferenceById(1L)).willReturn(userOf(1L));
+        String token = refreshTokenService.issue(1L, "test@test.com", UserRole.USER);
+        given(refreshTokenRepository.deleteByTokenHash(anyString())).willReturn(0);
+
+        // when & then
+        AuthException exception = assertThrows(AuthException.class, () -> refreshTokenService.consume(token));
+        assertEquals("이미 사용된 리프레시 토큰입니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 토큰은 AuthException 을 던진다")
+    void consume_Unknown_ThrowsException() {
+        // given
+        given(refreshTokenRepository.findByTokenHashWithUser(anyString())).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(AuthException.class, () -> refreshTokenService.consume("unknown"));
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    private User userOf(Long id) {
+        User user = new User("test@test.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.expert.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.VerifiedToken;
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.example.expert.domain.auth.entity.UserTokenWatermark;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.auth.repository.RevokedTokenRepository;
+import org.example.expert.domain.auth.repository.UserTokenWatermarkRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationStoreTest {
+
+    private static final long NOW = Instant.parse("2024-01-01T00:00:00.500Z").toEpochMilli();
+
+    private final AtomicLong now = new AtomicLong(NOW);
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(now.get());
+        }
+    };
+
+    @Mock
+    private UserTokenWatermarkRepository watermarkRepository;
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private TokenRevocationStore tokenRevocationStore;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationStore = new TokenRevocationStore(
+            watermarkRepository, revokedTokenRepository, refreshTokenRepository, clock);
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전에 발급된 토큰은 거부하고 이후 발급된 토큰은 허용한다")
+    void revokeAllIssuedBefore_RejectsOlderTokens() {
+        // given
+        given(watermarkRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        tokenRevocationStore.revokeAllIssuedBefore(1L);
+
+        // then
+        assertThat(tokenRevocationStore.isRevoked(tokenOf(1L, "a", NOW - 500))).isTrue();
+        assertThat(tokenRevocationStore.isRevoked(tokenOf(1L, "b", NOW + 500))).isFalse();
+        assertThat(tokenRevocationStore.isRevoked(tokenOf(2L, "c", NOW - 500))).isFalse();
+        verify(refreshTokenRepository).deleteByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("기준 시각은 다음 초로 올리고 토큰 유효 시간이 지나면 만료되도록 저장한다")
+    void revokeAllIssuedBefore_PersistsWatermark() {
+        // given
+        given(watermarkRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        tokenRevocationStore.revokeAllIssuedBefore(1L);
+
+        // then
+        ArgumentCaptor<UserTokenWatermark> captor = ArgumentCaptor.forClass(UserTokenWatermark.class);
+        verify(watermarkRepository).save(captor.capture());
+        assertThat(captor.getValue().getRevokedBefore()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0, 1));
+        assertThat(captor.getValue().getExpiresAt())
+            .isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0, 1).plusNanos(JwtUtil.TOKEN_TIME * 1_000_000));
+    }
+
+    @Test
+    @DisplayName("jti 로 무효화한 토큰만 거부한다")
+    void revoke_RejectsOnlyThatJti() {
+        // given
+        VerifiedToken token = tokenOf(1L, "jti-1", NOW);
+
+        // when
+        tokenRevocationStore.revoke(token);
+
+        // then
+        assertThat(tokenRevocationStore.isRevoked(token)).isTrue();
+        assertThat(tokenRevocationStore.isRevoked(tokenOf(1L, "jti-2", NOW))).isFalse();
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("jti 가 없거나 이미 만료된 토큰은 저장하지 않는다")
+    void revoke_WithoutJtiOrExpired_Ignored() {
+        // when
+        tokenRevocationStore.revoke(new VerifiedToken(1L, "test@test.com", UserRole.USER, NOW + 60_000));
+        tokenRevocationStore.revoke(new VerifiedToken(1L, "test@test.com", UserRole.USER, NOW, "jti", NOW - 1));
+
+        // then
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("reload 는 다른 인스턴스가 저장한 무효화를 가져오고 만료된 항목을 메모리에서 제거한다")
+    void reload_LoadsFromDatabaseAndEvictsExpired() {
+        // given
+        LocalDateTime dbNow = LocalDateTime.of(2024, 1, 1, 0, 0, 0, 500_000_000);
+        given(watermarkRepository.findAllByExpiresAtAfter(dbNow)).willReturn(List.of(
+            new UserTokenWatermark(2L, dbNow, dbNow.plusHours(1))));
+        given(revokedTokenRepository.findAllByExpiresAtAfter(dbNow)).willReturn(List.of(
+            new RevokedToken("jti-db", dbNow.plusMinutes(10))));
+        tokenRevocationStore.revoke(tokenOf(1L, "jti-local", NOW));
+
+        // when
+        tokenRevocationStore.reload();
+
+        // then
+        assertThat(tokenRevocationStore.isRevoked(tokenOf(2L, "x", NOW - 1_000))).isTrue();
+        assertThat(tokenRevocationStore.isRevoked(tokenOf(3L, "jti-db", NOW))).isTrue();
+        assertThat(tokenRevocationStore.isRevoked(tokenOf(3L, "jti-local", NOW))).isTrue();
+        verify(watermarkRepository).deleteExpired(dbNow);
+        verify(revokedTokenRepository).deleteExpired(dbNow);
+        verify(refreshTokenRepository).deleteExpired(dbNow);
+
+        // given: 원래 토큰들이 모두 만료된 뒤
+        now.addAndGet(2 * 60 * 60 * 1000L);
+
+        // when
+        tokenRevocationStore.reload();
+
+        // then
+        assertThat(tokenRevocationStore.isRevoked(tokenOf(2L, "x", NOW - 1_000))).isFalse();
+        assertThat(tokenRevocationStore.isRevoked(tokenOf(3L, "jti-db", NOW))).isFalse();
+        assertThat(tokenRevocationStore.isRevoked(tokenOf(3L, "jti-local", NOW))).isFalse();
+    }
+
+    // 발급 후 1시간 유효한 토큰
+    private VerifiedToken tokenOf(Long userId, String jti, long issuedAt) {
+        return new VerifiedToken(userId, "test@test.com", UserRole.USER, issuedAt + JwtUtil.TOKEN_TIME, jti, issuedAt);
+    }
+}
@@ -2,13 +2,21 @@ package org.example.expert.domain.comment.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import org.example.expert.config.AuthUserArgumentResolver;
@@ -17,6 +25,7 @@ import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPage;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +36,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(CommentController.class)
 public class CommentControllerTest {
@@ -77,8 +87,8 @@ public class CommentControllerTest {
         // given
         long todoId = 1L;
         List<CommentResponse> response = Arrays.asList(
-            new CommentResponse(1L, "Comment 1", new UserResponse(1L, "test1@test.com")),
-            new CommentResponse(2L, "Comment 2", new UserResponse(2L, "test2@test.com"))
+            new CommentResponse(1L, "Comment 1", new UserResponse(1L, "test1@test.com"), LocalDateTime.now()),
+            new CommentResponse(2L, "Comment 2", new UserResponse(2L, "test2@test.com"), LocalDateTime.now())
         );
 
         given(commentService.getComments(anyLong())).willReturn(response);
@@ -91,4 +101,50 @@ public class CommentControllerTest {
             .andExpect(jsonPath("$[1].id").value(2L))
             .andExpect(jsonPath("$[1].contents").value("Comment 2"));
     }
+
+    @Test
+    @DisplayName("댓글 커서 조회 성공 테스트")
+    public void getCommentsByCursor_Success() throws Exception {
+        // given
+        long todoId = 1L;
+        CursorPage<CommentResponse> response = new CursorPage<>(
+            List.of(new CommentResponse(1L, "Comment 1", new UserResponse(1L, "test1@test.com"),
+                LocalDateTime.now())),
+            1, true, "next-cursor");
+
+        given(commentService.getCommentsByCursor(eq(todoId), eq(""), eq(1))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", todoId)
+                .param("cursor", "")
+                .param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(1L))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+    }
+
+    @Test
+    @DisplayName("댓글 스트리밍 조회 성공 테스트")
+    public void streamComments_Success() throws Exception {
+        // given
+        long todoId = 1L;
+        willAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class)
+                .write("[{\"id\":1}]".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(commentService).streamComments(eq(todoId), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/todos/{todoId}/comments", todoId)
+                .param("stream", "true"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$[0].id").value(1L));
+    }
 }
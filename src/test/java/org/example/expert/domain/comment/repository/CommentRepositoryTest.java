@@ -0,0 +1,75 @@
+package org.example.expert.domain.comment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Todo todo;
+    private Todo otherTodo;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("comment@test.com", "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        otherTodo = todoRepository.save(new Todo("other", "contents", "Sunny", user));
+        for (int i = 0; i < 5; i++) {
+            commentRepository.save(new Comment("comment" + i, user, todo));
+        }
+        commentRepository.save(new Comment("other", user, otherTodo));
+        // DB 에 저장된(마이크로초로 잘린) createdAt 으로 커서를 만들기 위해 영속성 컨텍스트를 비운다.
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("댓글 커서 조회는 (createdAt, id) 오름차순으로 중복/누락 없이 이어진다")
+    void findResponsesByTodoIdAfterCursor_WalksAllComments() {
+        // given
+        List<Long> expected = commentRepository.findResponsesByTodoId(todo.getId()).stream()
+            .map(CommentResponse::getId)
+            .toList();
+
+        // when
+        List<Long> visited = new ArrayList<>();
+        List<CommentResponse> page = commentRepository.findResponsesByTodoId(todo.getId(), Limit.of(2));
+        while (!page.isEmpty()) {
+            page.forEach(comment -> visited.add(comment.getId()));
+            CommentResponse last = page.get(page.size() - 1);
+            page = commentRepository.findResponsesByTodoIdAfterCursor(
+                todo.getId(), last.getCreatedAt(), last.getId(), Limit.of(2));
+        }
+
+        // then
+        assertThat(expected).hasSize(5);
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }}
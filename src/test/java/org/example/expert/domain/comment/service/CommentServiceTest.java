@@ -1,28 +1,40 @@
 package org.example.expert.domain.comment.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.LongStream;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPage;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.service.TodoReader;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +44,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoReader todoReader;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
     @InjectMocks
     private CommentService commentService;
@@ -80,13 +94,12 @@ class CommentServiceTest {
         // given
         long todoId = 1L;
         User user = new User("test@test.com", "password", UserRole.USER);
-        Todo todo = new Todo("title", "contents", "sunny", user);
-        List<Comment> commentList = List.of(
-            new Comment("comment 1", user, todo),
-            new Comment("comment 2", user, todo)
+        List<CommentResponse> commentList = List.of(
+            new CommentResponse(1L, "comment 1", 1L, user.getEmail(), LocalDateTime.now()),
+            new CommentResponse(2L, "comment 2", 1L, user.getEmail(), LocalDateTime.now())
         );
 
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+        given(commentRepository.findResponsesByTodoId(todoId)).willReturn(commentList);
 
         // when
         List<CommentResponse> result = commentService.getComments(todoId);
@@ -98,4 +111,98 @@ class CommentServiceTest {
         assertEquals("comment 2", result.get(1).getContents());
         assertEquals(user.getEmail(), result.get(0).getUser().getEmail());
     }
+
+    @Test
+    public void comment_커서_조회시_size_보다_많으면_다음_커서를_반환한다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<CommentResponse> commentList = List.of(
+            new CommentResponse(1L, "comment 1", 1L, "test@test.com", createdAt),
+            new CommentResponse(2L, "comment 2", 1L, "test@test.com", createdAt),
+            new CommentResponse(3L, "comment 3", 1L, "test@test.com", createdAt.plusSeconds(1))
+        );
+
+        given(commentRepository.findResponsesByTodoId(todoId, Limit.of(3))).willReturn(commentList);
+
+        // when
+        CursorPage<CommentResponse> result = commentService.getCommentsByCursor(todoId, "", 2);
+
+        // then
+        assertThat(result.getContent()).extracting(CommentResponse::getId).containsExactly(1L, 2L);
+        assertThat(result.isHasNext()).isTrue();
+        KeysetCursor nextCursor = KeysetCursor.decode(result.getNextCursor());
+        assertEquals(createdAt, nextCursor.getTimestamp());
+        assertEquals(2L, nextCursor.getId());
+    }
+
+    @Test
+    public void comment_커서_이후_구간을_조회한다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        String cursor = new KeysetCursor(createdAt, 2L).encode();
+
+        given(commentRepository.findResponsesByTodoIdAfterCursor(todoId, createdAt, 2L, Limit.of(11)))
+            .willReturn(List.of(new CommentResponse(3L, "comment 3", 1L, "test@test.com", createdAt)));
+
+        // when
+        CursorPage<CommentResponse> result = commentService.getCommentsByCursor(todoId, cursor, 10);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void comment_잘못된_커서로_조회하면_에러가_발생한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class,
+            () -> commentService.getCommentsByCursor(1L, "%%%", 10));
+    }
+
+    @Test
+    public void comment_목록을_JSON_배열로_스트리밍한다() throws Exception {
+        // given
+        long todoId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        given(commentRepository.findResponsesByTodoId(todoId, Limit.of(CommentService.STREAM_PAGE_SIZE))).willReturn(List.of(
+            new CommentResponse(1L, "comment 1", 1L, "test@test.com", createdAt),
+            new CommentResponse(2L, "comment 2", 2L, "other@test.com", createdAt)
+        ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        commentService.streamComments(todoId, outputStream);
+
+        // then
+        String json = outputStream.toString(StandardCharsets.UTF_8);
+        List<?> comments = objectMapper.readValue(json, List.class);
+        assertEquals(2, comments.size());
+        assertThat(json).contains("\"contents\":\"comment 1\"", "\"email\":\"other@test.com\"");
+        verify(commentRepository, never()).findResponsesByTodoIdAfterCursor(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    public void comment_스트리밍은_가득_찬_페이지_다음을_마지막_댓글_키셋으로_이어_읽는다() throws Exception {
+        // given
+        long todoId = 1L;
+        int pageSize = CommentService.STREAM_PAGE_SIZE;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<CommentResponse> firstPage = LongStream.rangeClosed(1, pageSize)
+            .mapToObj(id -> new CommentResponse(id, "comment " + id, 1L, "test@test.com", createdAt))
+            .toList();
+        given(commentRepository.findResponsesByTodoId(todoId, Limit.of(pageSize))).willReturn(firstPage);
+        given(commentRepository.findResponsesByTodoIdAfterCursor(todoId, createdAt, (long) pageSize, Limit.of(pageSize)))
+            .willReturn(List.of(new CommentResponse(pageSize + 1L, "last", 1L, "test@test.com", createdAt)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        commentService.streamComments(todoId, outputStream);
+
+        // then
+        List<?> comments = objectMapper.readValue(outputStream.toString(StandardCharsets.UTF_8), List.class);
+        assertEquals(pageSize + 1, comments.size());
+    }
 }
@@ -0,0 +1,75 @@
+package org.example.expert.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@SpringBootTest
+class CommentServiceTransactionTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("댓글 스트리밍 중 응답에 쓰는 동안에는 트랜잭션과 DB 커넥션을 점유하지 않는다")
+    void streamComments_Write_HoldsNoConnection() throws Exception {
+        // given
+        User user = userRepository.save(new User("stream@test.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        for (int i = 0; i < CommentService.STREAM_PAGE_SIZE + 1; i++) {
+            commentRepository.save(new Comment("comment" + i, user, todo));
+        }
+        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+
+        AtomicInteger writesInTransaction = new AtomicInteger();
+        AtomicInteger maxActiveConnections = new AtomicInteger();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        OutputStream client = new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    writesInTransaction.incrementAndGet();
+                }
+                maxActiveConnections.accumulateAndGet(hikariDataSource.getHikariPoolMXBean().getActiveConnections(), Math::max);
+                body.write(bytes, offset, length);
+            }
+        };
+
+        // when
+        commentService.streamComments(todo.getId(), client);
+
+        // then
+        assertThat(writesInTransaction.get()).isZero();
+        assertThat(maxActiveConnections.get()).isZero();
+        assertThat(body.toString()).contains("\"contents\":\"comment0\"", "\"contents\":\"comment" + CommentService.STREAM_PAGE_SIZE + "\"");
+    }
+}
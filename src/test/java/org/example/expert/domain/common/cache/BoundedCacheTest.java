@@ -0,0 +1,93 @@
+package org.example.expert.domain.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(now.get());
+        }
+    };
+
+    @Test
+    @DisplayName("저장한 값을 만료 전까지 조회할 수 있다")
+    void get_BeforeExpiration_ReturnsValue() {
+        // given
+        BoundedCache<String, String> cache = new BoundedCache<>(10, clock);
+        cache.put("key", "value", 2_000L);
+
+        // when
+        String value = cache.get("key");
+
+        // then
+        assertThat(value).isEqualTo("value");
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지나면 조회되지 않는다")
+    void get_AfterExpiration_ReturnsNull() {
+        // given
+        BoundedCache<String, String> cache = new BoundedCache<>(10, clock);
+        cache.put("key", "value", 2_000L);
+        now.set(2_000L);
+
+        // when
+        String value = cache.get("key");
+
+        // then
+        assertThat(value).isNull();
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 값은 저장하지 않는다")
+    void put_AlreadyExpired_IsIgnored() {
+        // given
+        BoundedCache<String, String> cache = new BoundedCache<>(10, clock);
+
+        // when
+        cache.put("key", "value", 500L);
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 항목을 제거한다")
+    void put_OverMaximumSize_Evicts() {
+        // given
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(10, clock);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            cache.put(i, i, 5_000L);
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.evictionCount()).isGreaterThanOrEqualTo(40);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.common.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 시각과 id 가 복원된다")
+    void encode_Decode_RoundTrip() {
+        // given
+        LocalDateTime timestamp = LocalDateTime.of(2024, 9, 1, 12, 30, 15, 123456000);
+        KeysetCursor cursor = new KeysetCursor(timestamp, 42L);
+
+        // when
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.getTimestamp()).isEqualTo(timestamp);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 InvalidRequestException 을 던진다")
+    void decode_InvalidCursor_ThrowsException() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+            () -> KeysetCursor.decode("not-a-cursor!"));
+        assertThat(exception.getMessage()).isEqualTo("Invalid cursor");
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.domain.common.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.example.expert.domain.auth.exception.AuthException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BusinessExceptionTest {
+
+    @AfterEach
+    void tearDown() {
+        BusinessException.setStackTraceEnabled(true);
+    }
+
+    @Test
+    @DisplayName("기본 설정에서는 스택 트레이스를 수집한다")
+    void stackTraceEnabled_ByDefault() {
+        // when
+        InvalidRequestException exception = new InvalidRequestException("Todo not found");
+
+        // then
+        assertThat(exception.getStackTrace()).isNotEmpty();
+        assertThat(exception.getMessage()).isEqualTo("Todo not found");
+    }
+
+    @Test
+    @DisplayName("스택 트레이스를 끄면 메시지만 가진 예외를 생성한다")
+    void stackTraceDisabled_CreatesStacklessException() {
+        // given
+        BusinessException.setStackTraceEnabled(false);
+
+        // when
+        AuthException authException = new AuthException("잘못된 비밀번호입니다.");
+        ServerException serverException = new ServerException("Not Found Token");
+
+        // then
+        assertThat(authException.getStackTrace()).isEmpty();
+        assertThat(authException.getMessage()).isEqualTo("잘못된 비밀번호입니다.");
+        assertThat(serverException.getStackTrace()).isEmpty();
+    }
+}
@@ -21,6 +21,7 @@ import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.service.TodoReader;
+import org.example.expert.domain.user.dto.UserSnapshot;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.service.UserReader;
@@ -87,11 +88,11 @@ class ManagerServiceTest {
         Todo todo = new Todo("Title", "Contents", "Sunny", user);
         ReflectionTestUtils.setField(todo, "id", todoId);
 
-        Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
+        ManagerResponse mockManager = new ManagerResponse(1L, 1L, user.getEmail());
+        List<ManagerResponse> managerList = List.of(mockManager);
 
         given(todoReader.getTodoOrElseThrow(todoId)).willReturn(todo);
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(managerList);
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
@@ -99,7 +100,7 @@ class ManagerServiceTest {
         // then
         assertEquals(1, managerResponses.size());
         assertEquals(mockManager.getId(), managerResponses.get(0).getId());
-        assertEquals(mockManager.getUser().getEmail(),
+        assertEquals(user.getEmail(),
             managerResponses.get(0).getUser().getEmail());
     }
 
@@ -114,14 +115,13 @@ class ManagerServiceTest {
         Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
 
         long managerUserId = 2L;
-        User managerUser = new User("b@b.com", "password", UserRole.USER);  // 매니저로 등록할 유저
-        ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+        UserSnapshot managerUser = new UserSnapshot(managerUserId, "b@b.com", UserRole.USER);  // 매니저로 등록할 유저
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(
             managerUserId); // request dto 생성
 
         given(todoReader.getTodoOrElseThrow(todoId)).willReturn(todo);
-        given(userReader.getUserOrElseThrow(eq(managerUserId),
+        given(userReader.getUserSnapshot(eq(managerUserId),
             ArgumentMatchers.<Supplier<? extends RuntimeException>>any())).willReturn(managerUser);
         given(managerRepository.save(any(Manager.class))).willAnswer(
             invocation -> invocation.getArgument(0));
@@ -191,7 +191,7 @@ class ManagerServiceTest {
         2. 이렇게 하면, 람다 표현식 내부의 코드가 실제로 실행되어 코드 커버리지 도구에 의해 해당 라인이 커버된 것으로 인식됩니다.
         3. 즉, 람다 표현식이 호출될 때 예외를 던지도록 설정하여, 코드 커버리지를 높일 수 있습니다.
          */
-        given(userReader.getUserOrElseThrow(
+        given(userReader.getUserSnapshot(
             eq(nonExistentUserId),
             ArgumentMatchers.<Supplier<? extends RuntimeException>>any()
         )).willAnswer(invocation -> {
@@ -220,8 +220,9 @@ class ManagerServiceTest {
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
         given(todoReader.getTodoOrElseThrow(todoId)).willReturn(todo);
-        given(userReader.getUserOrElseThrow(eq(managerUserId),
-            ArgumentMatchers.<Supplier<? extends RuntimeException>>any())).willReturn(user);
+        given(userReader.getUserSnapshot(eq(managerUserId),
+            ArgumentMatchers.<Supplier<? extends RuntimeException>>any()))
+            .willReturn(new UserSnapshot(user.getId(), user.getEmail(), user.getUserRole()));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
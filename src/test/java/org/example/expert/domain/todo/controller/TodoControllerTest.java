@@ -3,6 +3,7 @@ package org.example.expert.domain.todo.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPage;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
@@ -92,6 +94,27 @@ public class TodoControllerTest {
             .andExpect(jsonPath("$.content[0].title").value("Test Title"));
     }
 
+    @Test
+    @DisplayName("Todo 커서 목록 조회 성공 테스트")
+    public void getTodosByCursor_Success() throws Exception {
+        // given
+        TodoResponse todoResponse = new TodoResponse(1L, "Test Title", "Test Content", "Sunny",
+            new UserResponse(1L, "test@test.com"),
+            LocalDateTime.now(), LocalDateTime.now());
+        CursorPage<TodoResponse> response = new CursorPage<>(
+            Collections.singletonList(todoResponse), 10, true, "next-cursor");
+        given(todoService.getTodosByCursor(eq(""), eq(10))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/todos")
+                .param("cursor", "")
+                .param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(1L))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+    }
+
     @Test
     @DisplayName("Todo 단건 조회 성공 테스트")
     public void getTodo_Success() throws Exception {
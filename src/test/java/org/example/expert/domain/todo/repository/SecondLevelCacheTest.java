@@ -0,0 +1,124 @@
+package org.example.expert.domain.todo.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("같은 Todo 를 다시 조회하면 2차 캐시에서 읽어 SQL 을 보내지 않는다")
+    void findById_RepeatedRead_HitsEntityCache() {
+        // given
+        Todo todo = saveTodo("entity-cache@test.com");
+        transactionTemplate.execute(status -> todoRepository.findById(todo.getId()).orElseThrow());
+        statistics.clear();
+
+        // when
+        Todo cached = transactionTemplate.execute(status -> todoRepository.findById(todo.getId()).orElseThrow());
+
+        // then
+        assertThat(cached.getTitle()).isEqualTo("title");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("findByIdWithUser 를 반복 호출하면 쿼리 캐시와 엔티티 캐시로 SQL 없이 응답한다")
+    void findByIdWithUser_RepeatedRead_HitsQueryCache() {
+        // given
+        Todo todo = saveTodo("query-cache@test.com");
+        readWithUserEmail(todo.getId());
+        long statementsOnFirstRead = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        // when
+        String email = readWithUserEmail(todo.getId());
+        String emailAgain = readWithUserEmail(todo.getId());
+
+        // then
+        assertThat(statementsOnFirstRead).isPositive();
+        assertThat(email).isEqualTo("query-cache@test.com");
+        assertThat(emailAgain).isEqualTo(email);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Todo.update 로 수정하면 다음 조회에 수정된 값이 보인다")
+    void todoUpdate_InvalidatesCachedTodo() {
+        // given
+        Todo todo = saveTodo("todo-update@test.com");
+        readWithUserEmail(todo.getId());
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+            todoRepository.findById(todo.getId()).orElseThrow().update("new title", "new contents"));
+
+        // then
+        Todo updated = transactionTemplate.execute(status -> todoRepository.findByIdWithUser(todo.getId()).orElseThrow());
+        assertThat(updated.getTitle()).isEqualTo("new title");
+        assertThat(updated.getContents()).isEqualTo("new contents");
+    }
+
+    @Test
+    @DisplayName("User.updateRole 로 권한을 바꾸면 2차 캐시에 있던 작성자에도 바뀐 권한이 보인다")
+    void userUpdateRole_InvalidatesCachedUser() {
+        // given
+        Todo todo = saveTodo("role-update@test.com");
+        Long userId = todo.getUser().getId();
+        readWithUserEmail(todo.getId());
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+            userRepository.findById(userId).orElseThrow().updateRole(UserRole.ADMIN));
+
+        // then
+        UserRole role = transactionTemplate.execute(status ->
+            todoRepository.findByIdWithUser(todo.getId()).orElseThrow().getUser().getUserRole());
+        assertThat(role).isEqualTo(UserRole.ADMIN);
+        assertThat(userRepository.findById(userId).orElseThrow().getUserRole()).isEqualTo(UserRole.ADMIN);
+    }
+
+    private Todo saveTodo(String email) {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.save(new User(email, "password", UserRole.USER));
+            return todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        });
+    }
+
+    private String readWithUserEmail(Long todoId) {
+        return transactionTemplate.execute(status ->
+            todoRepository.findByIdWithUser(todoId).orElseThrow().getUser().getEmail());
+    }
+}
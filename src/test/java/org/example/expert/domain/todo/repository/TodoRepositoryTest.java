@@ -0,0 +1,63 @@
+package org.example.expert.domain.todo.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class TodoRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("커서 조회는 (modifiedAt, id) 내림차순으로 중복/누락 없이 이어진다")
+    void findResponsesBeforeCursor_WalksAllTodosInOrder() {
+        // given
+        User user = userRepository.save(new User("cursor@test.com", "password", UserRole.USER));
+        for (int i = 0; i < 5; i++) {
+            todoRepository.save(new Todo("title" + i, "contents" + i, "Sunny", user));
+        }
+        // DB 에 저장된(마이크로초로 잘린) modifiedAt 으로 커서를 만들기 위해 영속성 컨텍스트를 비운다.
+        entityManager.flush();
+        entityManager.clear();
+        List<Long> expected = todoRepository.findAll().stream()
+            .sorted((a, b) -> {
+                int byModifiedAt = b.getModifiedAt().compareTo(a.getModifiedAt());
+                return byModifiedAt != 0 ? byModifiedAt : b.getId().compareTo(a.getId());
+            })
+            .map(Todo::getId)
+            .toList();
+
+        // when
+        List<Long> visited = new ArrayList<>();
+        List<TodoResponse> page = todoRepository.findResponsesOrderByModifiedAtDescIdDesc(Limit.of(2));
+        while (!page.isEmpty()) {
+            page.forEach(todo -> visited.add(todo.getId()));
+            TodoResponse last = page.get(page.size() - 1);
+            page = todoRepository.findResponsesBeforeCursor(last.getModifiedAt(), last.getId(), Limit.of(2));
+        }
+
+        // then
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+}
@@ -8,11 +8,14 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPage;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
@@ -27,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -91,14 +95,14 @@ public class TodoServiceTest {
         int size = 10;
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        User user = new User("test@test.com", "password", UserRole.USER);
-        List<Todo> todos = Arrays.asList(
-            new Todo("Title1", "Contents1", "Sunny", user),
-            new Todo("Title2", "Contents2", "Rainy", user)
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoResponse> todos = Arrays.asList(
+            responseOf(2L, "Title1", now),
+            responseOf(1L, "Title2", now)
         );
-        Page<Todo> todoPage = new PageImpl<>(todos, pageable, todos.size());
+        Page<TodoResponse> todoPage = new PageImpl<>(todos, pageable, todos.size());
 
-        given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(todoPage);
+        given(todoRepository.findResponsesOrderByModifiedAtDesc(pageable)).willReturn(todoPage);
 
         // when
         Page<TodoResponse> result = todoService.getTodos(page, size);
@@ -109,7 +113,69 @@ public class TodoServiceTest {
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("Title1");
         assertThat(result.getContent().get(1).getTitle()).isEqualTo("Title2");
 
-        verify(todoRepository, times(1)).findAllByOrderByModifiedAtDesc(pageable);
+        verify(todoRepository, times(1)).findResponsesOrderByModifiedAtDesc(pageable);
+    }
+
+    @Test
+    @DisplayName("Todo 커서 조회 - 첫 페이지는 size + 1 건을 읽어 다음 커서를 만든다")
+    public void getTodosByCursor_FirstPage_HasNext() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoResponse> todos = Arrays.asList(
+            responseOf(3L, "Title3", now),
+            responseOf(2L, "Title2", now),
+            responseOf(1L, "Title1", now.minusMinutes(1))
+        );
+        given(todoRepository.findResponsesOrderByModifiedAtDescIdDesc(Limit.of(3))).willReturn(todos);
+
+        // when
+        CursorPage<TodoResponse> result = todoService.getTodosByCursor("", 2);
+
+        // then
+        assertThat(result.getContent()).extracting(TodoResponse::getId).containsExactly(3L, 2L);
+        assertThat(result.isHasNext()).isTrue();
+        KeysetCursor nextCursor = KeysetCursor.decode(result.getNextCursor());
+        assertThat(nextCursor.getTimestamp()).isEqualTo(now);
+        assertThat(nextCursor.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Todo 커서 조회 - 커서 이후 구간을 조회하고 마지막 페이지면 다음 커서가 없다")
+    public void getTodosByCursor_LastPage_NoNextCursor() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        String cursor = new KeysetCursor(now, 2L).encode();
+        given(todoRepository.findResponsesBeforeCursor(now, 2L, Limit.of(11)))
+            .willReturn(List.of(responseOf(1L, "Title1", now.minusMinutes(1))));
+
+        // when
+        CursorPage<TodoResponse> result = todoService.getTodosByCursor(cursor, 10);
+
+        // then
+        assertThat(result.getContent()).extracting(TodoResponse::getId).containsExactly(1L);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Todo 커서 조회 - size 는 최대 100 으로 제한된다")
+    public void getTodosByCursor_ClampsSize() {
+        // given
+        given(todoRepository.findResponsesOrderByModifiedAtDescIdDesc(Limit.of(101))).willReturn(List.of());
+
+        // when
+        CursorPage<TodoResponse> result = todoService.getTodosByCursor(null, 1000);
+
+        // then
+        assertThat(result.getSize()).isEqualTo(100);
+        assertThat(result.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Todo 커서 조회 - 잘못된 커서는 예외가 발생한다")
+    public void getTodosByCursor_InvalidCursor() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("%%%", 10));
     }
 
     @Test
@@ -153,4 +219,8 @@ public class TodoServiceTest {
         verify(todoRepository, times(1)).findByIdWithUser(todoId);
     }
 
+
+    private TodoResponse responseOf(Long id, String title, LocalDateTime modifiedAt) {
+        return new TodoResponse(id, title, "Contents", "Sunny", 1L, "test@test.com", modifiedAt, modifiedAt);
+    }
 }
@@ -0,0 +1,63 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@SpringBootTest
+class TodoServiceTransactionTest {
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private DataSource dataSource;
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Test
+    @DisplayName("날씨 조회 중에는 트랜잭션과 DB 커넥션을 점유하지 않는다")
+    void saveTodo_WeatherCall_HoldsNoConnection() {
+        // given
+        User user = userRepository.save(new User("weather@test.com", "password", UserRole.USER));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        AtomicInteger activeConnections = new AtomicInteger(-1);
+        given(weatherClient.getTodayWeather()).willAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            activeConnections.set(hikariDataSource.getHikariPoolMXBean().getActiveConnections());
+            return "Sunny";
+        });
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+
+        // then
+        assertThat(transactionActive.get()).isFalse();
+        assertThat(activeConnections.get()).isZero();
+        assertThat(todoRepository.findById(response.getId())).isPresent();
+    }
+}
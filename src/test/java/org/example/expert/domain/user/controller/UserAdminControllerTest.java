@@ -8,6 +8,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.AdminApiLoggingAspect;
+import org.example.expert.config.adminlog.AdminLogDispatcher;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.service.UserAdminService;
 import org.junit.jupiter.api.DisplayName;
@@ -31,6 +32,9 @@ public class UserAdminControllerTest {
     @MockBean
     private UserAdminService userAdminService;
 
+    @MockBean
+    private AdminLogDispatcher adminLogDispatcher;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -12,7 +12,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 class UserRoleTest {
 
     @ParameterizedTest
-    @CsvSource({"USER,USER", "ADMIN,ADMIN"})
+    @CsvSource({"USER,USER", "ADMIN,ADMIN", "admin,ADMIN", "User,USER"})
     @DisplayName("of 메서드 성공 테스트 - 유효한 역할")
     void of_Success(String input, UserRole expected) {
         // when
@@ -35,4 +35,11 @@ class UserRoleTest {
 
         assertEquals("유효하지 않은 UerRole", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("of 메서드 실패 테스트 - null")
+    void of_Failure_Null() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> UserRole.of(null));
+    }
+}
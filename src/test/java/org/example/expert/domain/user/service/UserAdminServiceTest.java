@@ -3,8 +3,10 @@ package org.example.expert.domain.user.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
+import org.example.expert.domain.auth.service.TokenRevocationStore;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
@@ -23,6 +25,12 @@ public class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Mock
+    private UserReader userReader;
+
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -41,6 +49,8 @@ public class UserAdminServiceTest {
 
         // then
         assertThat(user.getUserRole()).isEqualTo(UserRole.ADMIN);
+        verify(tokenRevocationStore).revokeAllIssuedBefore(userId);
+        verify(userReader).invalidate(userId);
     }
 
     @Test
@@ -4,19 +4,31 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserSnapshot;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -26,9 +38,33 @@ public class UserReadServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    private final AtomicLong now = new AtomicLong(0L);
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(now.get());
+        }
+    };
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private UserReadService userReadService;
 
+    @BeforeEach
+    void setUp() {
+        userReadService = new UserReadService(userRepository, 100, Duration.ofMinutes(10), meterRegistry, clock);
+    }
+
     @Test
     @DisplayName("유저 단건 조회 성공 테스트")
     public void getUserOrElseThrow_Success() {
@@ -113,4 +149,80 @@ public class UserReadServiceTest {
         verify(userRepository, times(1)).findById(anyLong());
     }
 
+    @Test
+    @DisplayName("스냅샷 조회는 처음 한 번만 DB 를 조회하고 이후에는 캐시에서 반환한다")
+    public void getUserSnapshot_캐시_적중() {
+        // given
+        long userId = 1L;
+        UserSnapshot snapshot = new UserSnapshot(userId, "test@test.com", UserRole.USER);
+        given(userRepository.findSnapshotById(userId)).willReturn(Optional.of(snapshot));
+
+        // when
+        UserSnapshot first = userReadService.getUserSnapshot(userId);
+        UserSnapshot second = userReadService.getUserSnapshot(userId);
+
+        // then
+        assertThat(first).isSameAs(snapshot);
+        assertThat(second).isSameAs(snapshot);
+        verify(userRepository, times(1)).findSnapshotById(userId);
+        verify(userRepository, never()).findById(anyLong());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", "users").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나면 다시 DB 에서 읽는다")
+    public void getUserSnapshot_만료() {
+        // given
+        long userId = 1L;
+        given(userRepository.findSnapshotById(userId))
+            .willReturn(Optional.of(new UserSnapshot(userId, "test@test.com", UserRole.USER)));
+        userReadService.getUserSnapshot(userId);
+
+        // when
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+        userReadService.getUserSnapshot(userId);
+
+        // then
+        verify(userRepository, times(2)).findSnapshotById(userId);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 캐시하지 않고 예외를 던진다")
+    public void getUserSnapshot_유저_없음() {
+        // given
+        long userId = 1L;
+        given(userRepository.findSnapshotById(userId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> userReadService.getUserSnapshot(userId));
+        assertThrows(InvalidRequestException.class, () -> userReadService.getUserSnapshot(userId));
+        verify(userRepository, times(2)).findSnapshotById(userId);
+    }
+
+    @Test
+    @DisplayName("invalidate 는 즉시, 그리고 트랜잭션이 끝난 뒤 한 번 더 캐시를 지운다")
+    public void invalidate() {
+        // given
+        long userId = 1L;
+        given(userRepository.findSnapshotById(userId))
+            .willReturn(Optional.of(new UserSnapshot(userId, "test@test.com", UserRole.USER)));
+        userReadService.getUserSnapshot(userId);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            userReadService.invalidate(userId);
+            userReadService.getUserSnapshot(userId); // 커밋 전에 다른 요청이 다시 적재한 상황
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        userReadService.getUserSnapshot(userId);
+
+        // then
+        verify(userRepository, times(3)).findSnapshotById(userId);
+    }
 }
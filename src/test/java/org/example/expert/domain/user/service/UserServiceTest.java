@@ -11,7 +11,9 @@ import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.TokenRevocationStore;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserSnapshot;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -33,6 +35,12 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Mock
+    private UserReader userReader;
+
     @InjectMocks
     private UserService userService;
 
@@ -41,9 +49,9 @@ public class UserServiceTest {
     public void getUser_Success() {
         // given
         long userId = 1L;
-        User user = new User("test@test.com", "password", UserRole.USER);
+        UserSnapshot user = new UserSnapshot(userId, "test@test.com", UserRole.USER);
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userReader.getUserSnapshot(userId)).willReturn(user);
 
         // when
         UserResponse userResponse = userService.getUser(userId);
@@ -52,7 +60,7 @@ public class UserServiceTest {
         assertThat(userResponse).isNotNull();
         assertThat(userResponse.getEmail()).isEqualTo(user.getEmail());
 
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -61,15 +69,13 @@ public class UserServiceTest {
         // given
         long userId = 1L;
 
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        given(userReader.getUserSnapshot(userId)).willThrow(new InvalidRequestException("User not found"));
 
         // when & then
         assertThrows(
             InvalidRequestException.class,
             () -> userService.getUser(userId)
         );
-
-        verify(userRepository, times(1)).findById(anyLong());
     }
 
     @Test
@@ -100,6 +106,8 @@ public class UserServiceTest {
         verify(passwordEncoder, times(1)).matches(oldPassword, oldEncodedPassword);
         verify(passwordEncoder, times(1)).matches(newPassword, oldEncodedPassword);
         verify(passwordEncoder, times(1)).encode(newPassword);
+        verify(tokenRevocationStore, times(1)).revokeAllIssuedBefore(userId);
+        verify(userReader, times(1)).invalidate(userId);
     }
 
     @Test